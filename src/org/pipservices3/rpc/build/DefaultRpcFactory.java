@@ -2,32 +2,47 @@ package org.pipservices3.rpc.build;
 
 import org.pipservices3.commons.refer.Descriptor;
 import org.pipservices3.components.build.Factory;
+import org.pipservices3.rpc.services.AboutRestService;
+import org.pipservices3.rpc.services.AdminHttpEndpoint;
 import org.pipservices3.rpc.services.HeartbeatRestService;
 import org.pipservices3.rpc.services.HttpEndpoint;
 import org.pipservices3.rpc.services.StatusRestService;
+import org.pipservices3.rpc.services.SwaggerService;
 
 /**
  * Creates RPC components by their descriptors.
  * 
  * @see <a href="https://pip-services3-java.github.io/pip-services3-components-java//org/pipservices3/components/build/Factory.html">Factory</a>
  * @see HttpEndpoint
+ * @see AdminHttpEndpoint
  * @see HeartbeatRestService
  * @see StatusRestService 
+ * @see AboutRestService
+ * @see SwaggerService
  */
 public class DefaultRpcFactory extends Factory {
 	public static final Descriptor HttpEndpointDescriptor = new Descriptor("pip-services", "endpoint", "http", "*",
 			"1.0");
+	public static final Descriptor AdminHttpEndpointDescriptor = new Descriptor("pip-services", "endpoint", "admin", "*",
+			"1.0");
 	public static final Descriptor StatusServiceDescriptor = new Descriptor("pip-services", "status-service", "http",
 			"*", "1.0");
 	public static final Descriptor HeartbeatServiceDescriptor = new Descriptor("pip-services", "heartbeat-service",
 			"http", "*", "1.0");
+	public static final Descriptor AboutServiceDescriptor = new Descriptor("pip-services", "about-service", "http",
+			"*", "1.0");
+	public static final Descriptor SwaggerServiceDescriptor = new Descriptor("pip-services", "swagger-service", "http",
+			"*", "1.0");
 
 	/**
 	 * Create a new instance of the factory.
 	 */
 	public DefaultRpcFactory() {
 		registerAsType(HttpEndpointDescriptor, HttpEndpoint.class);
+		registerAsType(AdminHttpEndpointDescriptor, AdminHttpEndpoint.class);
 		registerAsType(StatusServiceDescriptor, StatusRestService.class);
 		registerAsType(HeartbeatServiceDescriptor, HeartbeatRestService.class);
+		registerAsType(AboutServiceDescriptor, AboutRestService.class);
+		registerAsType(SwaggerServiceDescriptor, SwaggerService.class);
 	}
 }
@@ -0,0 +1,198 @@
+package org.pipservices3.rpc.clients;
+
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.components.count.ICounters;
+
+/**
+ * Circuit breaker that protects callers from a failing upstream endpoint.
+ * <p>
+ * Outcomes of recent calls are kept in a sliding window. When the share of failed calls
+ * or the share of slow calls exceeds its threshold, the circuit opens and calls are rejected
+ * without reaching the endpoint. After the open timeout a few probe calls are let through
+ * in half-open state: if they pass, the circuit closes, otherwise it opens again.
+ * <p>
+ * State changes are reported to counters as <code>&lt;name&gt;.state</code>
+ * (0 - closed, 1 - open, 2 - half-open), rejected calls as <code>&lt;name&gt;.rejected</code>.
+ * <p>
+ * ### Configuration parameters ###
+ * <ul>
+ * <li>circuit_window:          number of recent calls in the sliding window (default: 100)
+ * <li>circuit_min_calls:       minimum number of calls before rates are evaluated (default: 20)
+ * <li>circuit_failure_rate:    share of failed calls that opens the circuit (default: 0.5)
+ * <li>circuit_slow_call_time:  duration in milliseconds after which a call is slow (default: 5 sec)
+ * <li>circuit_slow_call_rate:  share of slow calls that opens the circuit (default: 0.8)
+ * <li>circuit_open_timeout:    time in milliseconds before an open circuit lets probes through (default: 30 sec)
+ * <li>circuit_half_open_calls: number of probe calls in half-open state (default: 5)
+ * </ul>
+ */
+public class CircuitBreaker {
+    public static final int CLOSED = 0;
+    public static final int OPEN = 1;
+    public static final int HALF_OPEN = 2;
+
+    private final String _stateName;
+    private final String _rejectedName;
+    private final ICounters _counters;
+
+    private final int _minCalls;
+    private final double _failureRate;
+    private final long _slowCallTime;
+    private final double _slowCallRate;
+    private final long _openTimeout;
+    private final int _halfOpenCalls;
+
+    private final boolean[] _failed;
+    private final boolean[] _slow;
+    private int _position;
+    private int _count;
+    private int _failures;
+    private int _slowCalls;
+
+    private int _state = CLOSED;
+    private long _openedAt;
+    private int _probes;
+    private int _probesCompleted;
+
+    /**
+     * Creates a new circuit breaker.
+     *
+     * @param name     the name used as a prefix of breaker counters.
+     * @param options  the configuration options with circuit_* parameters.
+     * @param counters (optional) counters to report breaker state.
+     */
+    public CircuitBreaker(String name, ConfigParams options, ICounters counters) {
+        options = options != null ? options : new ConfigParams();
+
+        var window = Math.max(options.getAsIntegerWithDefault("circuit_window", 100), 1);
+        _failed = new boolean[window];
+        _slow = new boolean[window];
+        _minCalls = Math.min(Math.max(options.getAsIntegerWithDefault("circuit_min_calls", 20), 1), window);
+        _failureRate = options.getAsDoubleWithDefault("circuit_failure_rate", 0.5);
+        _slowCallTime = options.getAsLongWithDefault("circuit_slow_call_time", 5000);
+        _slowCallRate = options.getAsDoubleWithDefault("circuit_slow_call_rate", 0.8);
+        _openTimeout = options.getAsLongWithDefault("circuit_open_timeout", 30000);
+        _halfOpenCalls = Math.max(options.getAsIntegerWithDefault("circuit_half_open_calls", 5), 1);
+
+        _stateName = name + ".state";
+        _rejectedName = name + ".rejected";
+        _counters = counters;
+    }
+
+    /**
+     * Gets the current state: {@link #CLOSED}, {@link #OPEN} or {@link #HALF_OPEN}.
+     *
+     * @return the breaker state.
+     */
+    public synchronized int getState() {
+        return _state;
+    }
+
+    /**
+     * Asks for a permission to make a call. Every permitted call must be completed
+     * by {@link #onSuccess(long)}, {@link #onFailure(long)} or {@link #release()}.
+     *
+     * @return true if the call is permitted and false if the circuit is open.
+     */
+    public boolean tryAcquire() {
+        synchronized (this) {
+            if (_state == OPEN && System.currentTimeMillis() - _openedAt >= _openTimeout)
+                transition(HALF_OPEN);
+
+            if (_state == CLOSED)
+                return true;
+
+            if (_state == HALF_OPEN && _probes < _halfOpenCalls) {
+                _probes++;
+                return true;
+            }
+        }
+
+        if (_counters != null)
+            _counters.incrementOne(_rejectedName);
+        return false;
+    }
+
+    /**
+     * Records a successful call.
+     *
+     * @param duration the call duration in milliseconds.
+     */
+    public synchronized void onSuccess(long duration) {
+        record(false, duration >= _slowCallTime);
+    }
+
+    /**
+     * Records a failed call.
+     *
+     * @param duration the call duration in milliseconds.
+     */
+    public synchronized void onFailure(long duration) {
+        record(true, duration >= _slowCallTime);
+    }
+
+    /**
+     * Returns a permission of a call that was abandoned before its outcome was known,
+     * for instance cancelled by the caller. The call is not recorded.
+     */
+    public synchronized void release() {
+        if (_state == HALF_OPEN && _probes > _probesCompleted)
+            _probes--;
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (_state == OPEN)
+            return;
+
+        if (_state == HALF_OPEN) {
+            _probesCompleted++;
+            addOutcome(failed, slow);
+            // Probes are evaluated against all probe calls, so a single failure
+            // does not reopen the circuit when the threshold tolerates it
+            if (isTripped(_halfOpenCalls))
+                transition(OPEN);
+            else if (_probesCompleted >= _halfOpenCalls)
+                transition(CLOSED);
+            return;
+        }
+
+        addOutcome(failed, slow);
+        if (_count >= _minCalls && isTripped(_count))
+            transition(OPEN);
+    }
+
+    private void addOutcome(boolean failed, boolean slow) {
+        if (_count == _failed.length) {
+            if (_failed[_position]) _failures--;
+            if (_slow[_position]) _slowCalls--;
+        } else {
+            _count++;
+        }
+
+        _failed[_position] = failed;
+        _slow[_position] = slow;
+        if (failed) _failures++;
+        if (slow) _slowCalls++;
+        _position = (_position + 1) % _failed.length;
+    }
+
+    private boolean isTripped(int calls) {
+        return (_failures > 0 && _failures >= _failureRate * calls)
+                || (_slowCalls > 0 && _slowCalls >= _slowCallRate * calls);
+    }
+
+    private void transition(int state) {
+        _state = state;
+        // Every state starts with a clean window
+        _position = 0;
+        _count = 0;
+        _failures = 0;
+        _slowCalls = 0;
+        _probes = 0;
+        _probesCompleted = 0;
+        if (state == OPEN)
+            _openedAt = System.currentTimeMillis();
+
+        if (_counters != null)
+            _counters.last(_stateName, state);
+    }
+}
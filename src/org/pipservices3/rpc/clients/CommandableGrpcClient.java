@@ -0,0 +1,337 @@
+package org.pipservices3.rpc.clients;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.grpc.CallOptions;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.stub.ClientCalls;
+import jakarta.ws.rs.core.GenericType;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.config.IConfigurable;
+import org.pipservices3.commons.errors.*;
+import org.pipservices3.commons.refer.IReferenceable;
+import org.pipservices3.commons.refer.IReferences;
+import org.pipservices3.commons.refer.ReferenceException;
+import org.pipservices3.commons.run.IOpenable;
+import org.pipservices3.components.connect.ConnectionResolver;
+import org.pipservices3.components.count.CompositeCounters;
+import org.pipservices3.components.log.CompositeLogger;
+import org.pipservices3.components.trace.CompositeTracer;
+import org.pipservices3.rpc.services.CommandableGrpcMethod;
+import org.pipservices3.rpc.services.HttpCodecs;
+import org.pipservices3.rpc.services.IHttpCodec;
+import org.pipservices3.rpc.services.InstrumentPolicy;
+import org.pipservices3.rpc.services.InstrumentTiming;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abstract client that calls commandable gRPC service.
+ * <p>
+ * Commandable services are generated automatically for <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/commons/commands/ICommandable.html">ICommandable</a> objects.
+ * Each command is exposed as a call to the generic method described in {@link CommandableGrpcMethod}.
+ * The channel is kept open between calls and multiplexes concurrent requests over one HTTP/2 connection.
+ * <p>
+ * gRPC libraries are optional dependencies of this module, clients that use gRPC
+ * must add io.grpc:grpc-netty-shaded and io.grpc:grpc-stub themselves.
+ * <p>
+ * ### Configuration parameters ###
+ * <ul>
+ * <li>connection(s):
+ *   <ul>
+ *   <li>discovery_key:         (optional) a key to retrieve the connection from <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/connect/IDiscovery.html">IDiscovery</a>
+ *   <li>protocol:              connection protocol: "grpc" or "inproc" for in-process channel (default: "grpc")
+ *   <li>host:                  host name or IP address, for "inproc" protocol - the server name
+ *   <li>port:                  port number
+ *   </ul>
+ * <li>options:
+ *   <ul>
+ *   <li>timeout:               invocation timeout in milliseconds (default: 10 sec)
+ *   <li>codec:                 payload encoding: "json", "cbor", "smile" or "msgpack" (default: "json")
+ *   <li>trace_sample_rate:     share of calls recorded by tracers from 0 to 1 (default: 1)
+ *   </ul>
+ * </ul>
+ * <p>
+ * ### References ###
+ * <ul>
+ * <li>*:logger:*:*:1.0           (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/log/ILogger.html">ILogger</a> components to pass log messages
+ * <li>*:counters:*:*:1.0         (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/count/ICounters.html">ICounters</a> components to pass collected measurements
+ * <li>*:tracer:*:*:1.0           (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/trace/ITracer.html">ITracer</a> components to record traces
+ * <li>*:discovery:*:*:1.0        (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/connect/IDiscovery.html">IDiscovery</a> services to resolve connection
+ * </ul>
+ * <p>
+ * ### Example ###
+ * <pre>
+ * {@code
+ * class MyCommandableGrpcClient extends CommandableGrpcClient implements IMyClient {
+ *    ...
+ *
+ *    public MyData getData(String correlationId, String id) {
+ *        return this.callCommand(
+ *            MyData.class,
+ *            "get_data",
+ *            correlationId,
+ *            Parameters.fromTuples("id", id)
+ *        );
+ *    }
+ *    ...
+ * }
+ *
+ * MyCommandableGrpcClient client = new MyCommandableGrpcClient("v1.service");
+ * client.configure(ConfigParams.fromTuples(
+ *     "connection.protocol", "grpc",
+ *     "connection.host", "localhost",
+ *     "connection.port", 8090
+ * ));
+ *
+ * MyData data = client.getData("123", "1");
+ * ...
+ * }
+ * </pre>
+ *
+ * @see org.pipservices3.rpc.services.CommandableGrpcService
+ */
+public class CommandableGrpcClient implements IOpenable, IConfigurable, IReferenceable {
+    /**
+     * The service name used as a prefix of command names.
+     */
+    protected String _name;
+    /**
+     * The connection resolver.
+     */
+    protected ConnectionResolver _connectionResolver = new ConnectionResolver();
+    /**
+     * The logger.
+     */
+    protected CompositeLogger _logger = new CompositeLogger();
+    /**
+     * The performance counters.
+     */
+    protected CompositeCounters _counters = new CompositeCounters();
+    /**
+     * The tracer.
+     */
+    protected CompositeTracer _tracer = new CompositeTracer();
+    /**
+     * The instrumentation policy.
+     */
+    protected InstrumentPolicy _instrumentPolicy = new InstrumentPolicy("call");
+    /**
+     * The invocation timeout in milliseconds.
+     */
+    protected long _timeout = 10000;
+    /**
+     * The codec to encode payloads.
+     */
+    protected IHttpCodec _codec = HttpCodecs.getDefault();
+    /**
+     * The gRPC channel.
+     */
+    protected ManagedChannel _channel;
+
+    /**
+     * Creates a new instance of the client.
+     *
+     * @param name a service name.
+     */
+    public CommandableGrpcClient(String name) {
+        _name = name;
+    }
+
+    /**
+     * Configures component by passing configuration parameters.
+     *
+     * @param config configuration parameters to be set.
+     * @throws ConfigException when configuration is wrong.
+     */
+    @Override
+    public void configure(ConfigParams config) throws ConfigException {
+        _connectionResolver.configure(config);
+        _instrumentPolicy.configure(config);
+        _timeout = config.getAsLongWithDefault("options.timeout", _timeout);
+
+        var codecName = config.getAsStringWithDefault("options.codec", "json");
+        _codec = HttpCodecs.get(codecName);
+        if (_codec == null)
+            throw new ConfigException(null, "CODEC_NOT_AVAILABLE", "Codec " + codecName + " is not available");
+    }
+
+    /**
+     * Sets references to dependent components.
+     *
+     * @param references references to locate the component dependencies.
+     * @throws ReferenceException when no found references.
+     */
+    @Override
+    public void setReferences(IReferences references) throws ReferenceException {
+        _logger.setReferences(references);
+        _counters.setReferences(references);
+        _tracer.setReferences(references);
+        _instrumentPolicy.setReferences(references);
+        _connectionResolver.setReferences(references);
+    }
+
+    /**
+     * Adds instrumentation to log calls and measure call time. It returns a Timing
+     * object that is used to end the time measurement.
+     *
+     * @param correlationId (optional) transaction id to trace execution through
+     *                      call chain.
+     * @param name          a method name.
+     * @return Timing object to end the time measurement.
+     */
+    protected InstrumentTiming instrument(String correlationId, String name) {
+        return this._instrumentPolicy.begin(correlationId, this._instrumentPolicy.getNames(name),
+                this._logger, this._counters, this._tracer);
+    }
+
+    /**
+     * Checks if the component is opened.
+     *
+     * @return true if the component has been opened and false otherwise.
+     */
+    @Override
+    public boolean isOpen() {
+        return _channel != null;
+    }
+
+    /**
+     * Opens the component.
+     *
+     * @param correlationId (optional) transaction id to trace execution through
+     *                      call chain.
+     * @throws ApplicationException when error occured.
+     */
+    @Override
+    public void open(String correlationId) throws ApplicationException {
+        if (_channel != null)
+            return;
+
+        var connection = _connectionResolver.resolve(correlationId);
+        if (connection == null)
+            throw new ConfigException(correlationId, "NO_CONNECTION", "Connection for gRPC client is not defined");
+
+        var protocol = connection.getProtocolWithDefault("grpc");
+        if ("inproc".equals(protocol)) {
+            _channel = InProcessChannelBuilder.forName(connection.getHost()).build();
+        } else {
+            _channel = Grpc.newChannelBuilderForAddress(connection.getHost(), connection.getPort(),
+                    InsecureChannelCredentials.create()).build();
+        }
+
+        _logger.debug(correlationId, "Connected via gRPC to %s://%s:%d", protocol,
+                connection.getHost(), connection.getPort());
+    }
+
+    /**
+     * Closes component and frees used resources.
+     *
+     * @param correlationId (optional) transaction id to trace execution through
+     *                      call chain.
+     * @throws ApplicationException when error occured.
+     */
+    @Override
+    public void close(String correlationId) throws ApplicationException {
+        if (_channel == null)
+            return;
+
+        try {
+            _channel.shutdown();
+            if (!_channel.awaitTermination(10, TimeUnit.SECONDS))
+                _channel.shutdownNow();
+        } catch (InterruptedException ex) {
+            _channel.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        _channel = null;
+        _logger.debug(correlationId, "Disconnected from gRPC service %s", _name);
+    }
+
+    /**
+     * Calls a remote method via gRPC commadable protocol. The call is made via the generic
+     * invoke method and all parameters are sent in the payload.
+     * The complete name of the remote method is defined as name + "." + route.
+     *
+     * @param type          the class type.
+     * @param route         a name of the command to call.
+     * @param correlationId (optional) transaction id to trace execution through
+     *                      call chain.
+     * @param args          command arguments.
+     * @return result of the command.
+     * @throws ApplicationException when error occured.
+     */
+    public <T> T callCommand(Class<T> type, String route, String correlationId, Map<String, Object> args)
+            throws ApplicationException {
+        return invoke(type, route, correlationId, args);
+    }
+
+    /**
+     * Calls a remote method via gRPC commadable protocol. The call is made via the generic
+     * invoke method and all parameters are sent in the payload.
+     * The complete name of the remote method is defined as name + "." + route.
+     *
+     * @param type          the generic class type.
+     * @param route         a name of the command to call.
+     * @param correlationId (optional) transaction id to trace execution through
+     *                      call chain.
+     * @param args          command arguments.
+     * @return result of the command.
+     * @throws ApplicationException when error occured.
+     */
+    public <T> T callCommand(GenericType<T> type, String route, String correlationId, Map<String, Object> args)
+            throws ApplicationException {
+        return invoke(type.getType(), route, correlationId, args);
+    }
+
+    private <T> T invoke(Type type, String route, String correlationId, Map<String, Object> args)
+            throws ApplicationException {
+        if (_channel == null)
+            throw new InvalidStateException(correlationId, "NOT_OPENED", "Client is not opened");
+
+        var method = _name != null && !_name.isEmpty() ? _name + "." + route : route;
+        InstrumentTiming timing = instrument(correlationId, method);
+
+        try {
+            var output = new ByteArrayOutputStream();
+            _codec.write(new CommandableGrpcMethod.InvokeRequest(method, correlationId, args), output);
+
+            var callOptions = CallOptions.DEFAULT.withDeadlineAfter(_timeout, TimeUnit.MILLISECONDS);
+            byte[] response = ClientCalls.blockingUnaryCall(_channel, CommandableGrpcMethod.INVOKE, callOptions,
+                    output.toByteArray());
+
+            var typeFactory = TypeFactory.defaultInstance();
+            var replyType = typeFactory.constructParametricType(CommandableGrpcMethod.InvokeReply.class,
+                    typeFactory.constructType(type));
+            CommandableGrpcMethod.InvokeReply<T> reply = _codec.read(replyType, new ByteArrayInputStream(response));
+
+            if (reply.error != null)
+                throw ApplicationExceptionFactory.create(reply.error);
+
+            return reply.result;
+        } catch (StatusRuntimeException ex) {
+            ApplicationException error = ex.getStatus().getCode() == Status.Code.UNAVAILABLE
+                    ? new ConnectionException(correlationId, "CANNOT_CONNECT", "Failed to call " + method).wrap(ex)
+                    : new InvocationException(correlationId, "CALL_FAILED", "Failed to call " + method).wrap(ex);
+            timing.endFailure(error);
+            throw error;
+        } catch (ApplicationException ex) {
+            timing.endFailure(ex);
+            throw ex;
+        } catch (Exception ex) {
+            var error = new InvocationException(correlationId, "CALL_FAILED", "Failed to call " + method).wrap(ex);
+            timing.endFailure(error);
+            throw error;
+        } finally {
+            timing.endTiming();
+        }
+    }
+}
@@ -2,7 +2,15 @@ package org.pipservices3.rpc.clients;
 
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.core.GenericType;
+import org.pipservices3.commons.data.DataPage;
 import org.pipservices3.commons.errors.ApplicationException;
+import org.pipservices3.commons.run.Parameters;
+import org.pipservices3.rpc.services.BatchCommand;
+import org.pipservices3.rpc.services.BatchCommandResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Abstract client that calls commandable HTTP service.
@@ -69,6 +77,11 @@ import org.pipservices3.commons.errors.ApplicationException;
  */
 public class CommandableHttpClient extends RestClient {
 
+	/**
+	 * The route of the batch operation.
+	 */
+	protected String _batchRoute = "batch";
+
 	/**
 	 * Creates a new instance of the client.
 	 * 
@@ -114,4 +127,93 @@ public class CommandableHttpClient extends RestClient {
 		return call(type, correlationId, HttpMethod.POST, route, entity);
 	}
 
+	/**
+	 * Calls a remote method via HTTP commadable protocol without blocking the calling thread.
+	 * The call is made via POST operation and all parameters are sent in body object.
+	 * The complete route to remote method is defined as baseRoute + "/" + name.
+	 * 
+	 * @param type          the class type.
+	 * @param route         a name of the command to call.
+	 * @param correlationId (optional) transaction id to trace execution through
+	 *                      call chain.
+	 * @param entity        body object.
+	 * @return a future with the result of the command, it completes exceptionally with ApplicationException.
+	 */
+	public <T> CompletableFuture<T> callCommandAsync(Class<T> type, String route, String correlationId, Object entity) {
+		return callAsync(type, correlationId, HttpMethod.POST, route, entity);
+	}
+
+	/**
+	 * Calls a remote method via HTTP commadable protocol without blocking the calling thread.
+	 * The call is made via POST operation and all parameters are sent in body object.
+	 * The complete route to remote method is defined as baseRoute + "/" + name.
+	 * 
+	 * @param type          the generic class type.
+	 * @param route         a name of the command to call.
+	 * @param correlationId (optional) transaction id to trace execution through
+	 *                      call chain.
+	 * @param entity        body object.
+	 * @return a future with the result of the command, it completes exceptionally with ApplicationException.
+	 */
+	public <T> CompletableFuture<T> callCommandAsync(GenericType<T> type, String route, String correlationId,
+			Object entity) {
+		return callAsync(type, correlationId, HttpMethod.POST, route, entity);
+	}
+
+	/**
+	 * Calls a remote command that returns DataPage and iterates over all items of the result set.
+	 * Pages are requested by "paging" argument added to the command arguments,
+	 * next pages are loaded while the caller processes the current one.
+	 * 
+	 * @param type          the generic type of the page.
+	 * @param route         a name of the command to call.
+	 * @param correlationId (optional) transaction id to trace execution through
+	 *                      call chain.
+	 * @param args          (optional) command arguments, like filter.
+	 * @param pageSize      the number of items requested per page.
+	 * @param prefetch      the maximum number of pages loaded ahead.
+	 * @return the iterator over all items. It shall be closed when iteration stops early.
+	 * @see DataPageIterator
+	 */
+	public <T> DataPageIterator<T> callCommandPages(GenericType<DataPage<T>> type, String route,
+			String correlationId, Map<String, Object> args, long pageSize, int prefetch) {
+		return new DataPageIterator<>(paging -> {
+			var parameters = new Parameters(args != null ? args : Map.of());
+			parameters.put("paging", paging);
+			return callCommandAsync(type, route, correlationId, parameters);
+		}, pageSize, prefetch);
+	}
+
+	/**
+	 * Calls several remote commands in one HTTP round trip via the batch operation
+	 * of commandable HTTP service. The batch shall be enabled in the service configuration.
+	 * 
+	 * @param commands      commands with their arguments.
+	 * @param correlationId (optional) transaction id to trace execution through
+	 *                      call chain.
+	 * @param parallel      true to execute commands in parallel and false to execute them one by one.
+	 * @return results of the commands in the same order. Failed commands have errors instead of results.
+	 * @throws ApplicationException when the batch call failed.
+	 */
+	public List<BatchCommandResult> callCommands(List<BatchCommand> commands, String correlationId, boolean parallel)
+			throws ApplicationException {
+		var route = parallel ? _batchRoute + "?parallel=true" : _batchRoute;
+		return call(new GenericType<List<BatchCommandResult>>() {}, correlationId, HttpMethod.POST, route, commands);
+	}
+
+	/**
+	 * Calls several remote commands sequentially in one HTTP round trip.
+	 * 
+	 * @param commands      commands with their arguments.
+	 * @param correlationId (optional) transaction id to trace execution through
+	 *                      call chain.
+	 * @return results of the commands in the same order.
+	 * @throws ApplicationException when the batch call failed.
+	 * @see #callCommands(List, String, boolean)
+	 */
+	public List<BatchCommandResult> callCommands(List<BatchCommand> commands, String correlationId)
+			throws ApplicationException {
+		return callCommands(commands, correlationId, false);
+	}
+
 }
@@ -0,0 +1,206 @@
+package org.pipservices3.rpc.clients;
+
+import org.pipservices3.commons.data.DataPage;
+import org.pipservices3.commons.data.PagingParams;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy iterator over all items of a paged result set.
+ * <p>
+ * Pages are requested with increasing skip and fixed take. While the caller processes
+ * items of the current page, up to <code>prefetch</code> next pages are loaded asynchronously,
+ * so the number of buffered pages is bounded. Iteration stops on a page shorter than the page size
+ * or when the total returned by the server is reached.
+ * <p>
+ * Closing the iterator cancels pending requests, it can be called from any thread.
+ * Failures of page requests are thrown from {@link #hasNext()} as {@link CompletionException}
+ * with the original error as the cause.
+ * <p>
+ * ### Example ###
+ * <pre>
+ * {@code
+ * try (var items = new DataPageIterator<MyData>(
+ *         paging -> client.callCommandAsync(new GenericType<DataPage<MyData>>() {}, "get_data", null,
+ *                 Parameters.fromTuples("paging", paging)), 100, 2)) {
+ *     items.stream().forEach(item -> export(item));
+ * }
+ * }
+ * </pre>
+ *
+ * @param <T> the type of items.
+ */
+public class DataPageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * Function that loads a single page.
+     *
+     * @param <T> the type of items.
+     */
+    @FunctionalInterface
+    public interface PageLoader<T> {
+        /**
+         * Starts loading of a page. When the returned future is cancelled,
+         * the loader shall abort the request and release its resources.
+         *
+         * @param paging the paging parameters of the page.
+         * @return a future with the loaded page.
+         */
+        CompletableFuture<DataPage<T>> load(PagingParams paging);
+    }
+
+    private final PageLoader<T> _loader;
+    private final long _pageSize;
+    private final int _prefetch;
+    private final ArrayDeque<CompletableFuture<DataPage<T>>> _pending = new ArrayDeque<>();
+
+    private long _nextSkip = 0;
+    private boolean _exhausted = false;
+    private volatile boolean _closed = false;
+    private List<T> _items = List.of();
+    private int _index = 0;
+
+    /**
+     * Creates a new iterator.
+     *
+     * @param loader   the function that loads pages.
+     * @param pageSize the number of items requested per page.
+     * @param prefetch the maximum number of pages loaded ahead of the current one.
+     */
+    public DataPageIterator(PageLoader<T> loader, long pageSize, int prefetch) {
+        if (pageSize <= 0)
+            throw new IllegalArgumentException("Page size must be positive");
+
+        _loader = loader;
+        _pageSize = pageSize;
+        _prefetch = Math.max(1, prefetch);
+    }
+
+    private void requestPages() {
+        synchronized (_pending) {
+            while (!_exhausted && !_closed && _pending.size() < _prefetch) {
+                _pending.add(_loader.load(new PagingParams(_nextSkip, _pageSize, false)));
+                _nextSkip += _pageSize;
+            }
+        }
+    }
+
+    private boolean loadNextPage() {
+        requestPages();
+
+        CompletableFuture<DataPage<T>> future;
+        long loaded;
+        synchronized (_pending) {
+            future = _pending.poll();
+            // Number of items up to the end of this page
+            loaded = _nextSkip - _pageSize * _pending.size();
+        }
+        if (future == null)
+            return false;
+
+        DataPage<T> page;
+        try {
+            page = future.get();
+        } catch (CancellationException ex) {
+            if (_closed)
+                return false;
+            throw ex;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new CancellationException("Iteration was interrupted");
+        } catch (ExecutionException ex) {
+            close();
+            throw new CompletionException(ex.getCause());
+        }
+
+        var data = page != null ? page.getData() : null;
+        _items = data != null ? data : List.of();
+        _index = 0;
+
+        var total = page != null ? page.getTotal() : null;
+        if (_items.size() < _pageSize || (total != null && loaded >= total)) {
+            // The last page is reached, pages requested ahead are not needed
+            _exhausted = true;
+            cancelPending();
+        } else {
+            requestPages();
+        }
+
+        return true;
+    }
+
+    private void cancelPending() {
+        synchronized (_pending) {
+            CompletableFuture<DataPage<T>> future;
+            while ((future = _pending.poll()) != null)
+                future.cancel(true);
+        }
+    }
+
+    /**
+     * Checks if there are more items. It blocks until the next page is loaded.
+     *
+     * @return true if there are more items.
+     */
+    @Override
+    public boolean hasNext() {
+        while (!_closed && _index >= _items.size()) {
+            if (!loadNextPage())
+                return false;
+        }
+        return !_closed && _index < _items.size();
+    }
+
+    /**
+     * Gets the next item.
+     *
+     * @return the next item.
+     */
+    @Override
+    public T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        return _items.get(_index++);
+    }
+
+    /**
+     * Wraps the iterator into a sequential stream. Closing the stream closes the iterator.
+     *
+     * @return a stream of items.
+     */
+    public Stream<T> stream() {
+        var spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Checks if the iterator was closed.
+     *
+     * @return true if the iterator is closed.
+     */
+    public boolean isClosed() {
+        return _closed;
+    }
+
+    /**
+     * Stops iteration and cancels pending page requests.
+     */
+    @Override
+    public void close() {
+        _closed = true;
+        _exhausted = true;
+        cancelPending();
+    }
+}
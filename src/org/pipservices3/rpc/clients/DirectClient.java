@@ -12,6 +12,7 @@ import org.pipservices3.commons.run.IOpenable;
 import org.pipservices3.components.count.CompositeCounters;
 import org.pipservices3.components.log.CompositeLogger;
 import org.pipservices3.components.trace.CompositeTracer;
+import org.pipservices3.rpc.services.InstrumentPolicy;
 import org.pipservices3.rpc.services.InstrumentTiming;
 
 /**
@@ -27,6 +28,10 @@ import org.pipservices3.rpc.services.InstrumentTiming;
  *   <ul>
  *   <li>controller:            override controller descriptor
  *   </ul>
+ * <li>options:
+ *   <ul>
+ *   <li>trace_sample_rate:     share of calls recorded by tracers from 0 to 1 (default: 1)
+ *   </ul>
  * </ul>
  * <p>
  * ### References ###
@@ -93,6 +98,10 @@ public abstract class DirectClient<T> implements IConfigurable, IOpenable, IRefe
      * The tracer.
      */
     protected CompositeTracer _tracer = new CompositeTracer();
+    /**
+     * The instrumentation policy.
+     */
+    protected InstrumentPolicy _instrumentPolicy = new InstrumentPolicy("call");
 
     /**
      * Creates a new instance of the client.
@@ -109,6 +118,7 @@ public abstract class DirectClient<T> implements IConfigurable, IOpenable, IRefe
      */
     public void configure(ConfigParams config) throws ConfigException {
         _dependencyResolver.configure(config);
+        _instrumentPolicy.configure(config);
     }
 
     /**
@@ -122,6 +132,7 @@ public abstract class DirectClient<T> implements IConfigurable, IOpenable, IRefe
         _logger.setReferences(references);
         _counters.setReferences(references);
         _tracer.setReferences(references);
+        _instrumentPolicy.setReferences(references);
         _dependencyResolver.setReferences(references);
         _controller = (T) this._dependencyResolver.getOneRequired("controller");
     }
@@ -136,13 +147,8 @@ public abstract class DirectClient<T> implements IConfigurable, IOpenable, IRefe
      * @return Timing object to end the time measurement.
      */
     protected InstrumentTiming instrument(String correlationId, String name) {
-        this._logger.trace(correlationId, "Calling %s method", name);
-        this._counters.incrementOne(name + ".call_count");
-
-        var counterTiming = this._counters.beginTiming(name + ".call_time");
-        var traceTiming = this._tracer.beginTrace(correlationId, name, null);
-        return new InstrumentTiming(correlationId, name, "call",
-                this._logger, this._counters, counterTiming, traceTiming);
+        return this._instrumentPolicy.begin(correlationId, this._instrumentPolicy.getNames(name),
+                this._logger, this._counters, this._tracer);
     }
 
     /**
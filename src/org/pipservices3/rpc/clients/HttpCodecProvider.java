@@ -0,0 +1,59 @@
+package org.pipservices3.rpc.clients;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import org.pipservices3.rpc.services.IHttpCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Jersey client provider that reads and writes bodies in the media type of a codec.
+ * Bodies in other media types are left to the default providers.
+ *
+ * @see RestClient
+ * @see org.pipservices3.rpc.services.HttpCodecs
+ */
+@Provider
+class HttpCodecProvider implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+    private final IHttpCodec _codec;
+    private final MediaType _mediaType;
+
+    HttpCodecProvider(IHttpCodec codec) {
+        _codec = codec;
+        _mediaType = MediaType.valueOf(codec.getMediaType());
+    }
+
+    private boolean isCompatible(MediaType mediaType) {
+        return mediaType != null && _mediaType.isCompatible(mediaType) && !mediaType.isWildcardType()
+                && !mediaType.isWildcardSubtype();
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return isCompatible(mediaType);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        return _codec.read(genericType != null ? genericType : type, entityStream);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return isCompatible(mediaType);
+    }
+
+    @Override
+    public void writeTo(Object value, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        _codec.write(value, entityStream);
+    }
+}
@@ -0,0 +1,130 @@
+package org.pipservices3.rpc.clients;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
+import org.glassfish.jersey.client.ClientConfig;
+import org.pipservices3.components.count.ICounters;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of persistent HTTP connections used by {@link RestClient} with "apache" connector.
+ * <p>
+ * Connections are kept alive between calls and reused per route, the total number
+ * and the number per route are limited. Connections idle longer than the idle timeout
+ * are closed in background. Every eviction pass also reports pool state to counters:
+ * <code>&lt;name&gt;.pool.leased</code>, <code>&lt;name&gt;.pool.available</code>
+ * and <code>&lt;name&gt;.pool.pending</code>.
+ */
+public class HttpConnectionPool implements AutoCloseable {
+    private static final ScheduledExecutorService _evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "http-pool-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final PoolingHttpClientConnectionManager _manager;
+    private final String _leasedName;
+    private final String _availableName;
+    private final String _pendingName;
+    private final ICounters _counters;
+    private final long _idleTimeout;
+    private ScheduledFuture<?> _eviction;
+
+    /**
+     * Creates a new connection pool.
+     *
+     * @param name           the name used as a prefix of pool counters.
+     * @param maxConnections the maximum number of connections.
+     * @param maxPerRoute    the maximum number of connections to a single host.
+     * @param idleTimeout    the time in milliseconds after which idle connections are closed.
+     * @param counters       (optional) counters to report pool state.
+     */
+    public HttpConnectionPool(String name, int maxConnections, int maxPerRoute, long idleTimeout, ICounters counters) {
+        _manager = new PoolingHttpClientConnectionManager();
+        _manager.setMaxTotal(maxConnections);
+        _manager.setDefaultMaxPerRoute(Math.min(maxPerRoute, maxConnections));
+        // Check connections that stayed idle for a while before reuse
+        _manager.setValidateAfterInactivity((int) Math.min(Integer.MAX_VALUE, Math.max(1000, idleTimeout / 2)));
+
+        _leasedName = name + ".pool.leased";
+        _availableName = name + ".pool.available";
+        _pendingName = name + ".pool.pending";
+        _counters = counters;
+        _idleTimeout = idleTimeout;
+
+        if (idleTimeout > 0) {
+            var period = Math.max(100, idleTimeout / 2);
+            _eviction = _evictor.scheduleWithFixedDelay(this::evict, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sets the pooled connector to the client configuration.
+     *
+     * @param config the client configuration.
+     */
+    public void configure(ClientConfig config) {
+        config.connectorProvider(new ApacheConnectorProvider());
+        config.property(ApacheClientProperties.CONNECTION_MANAGER, _manager);
+    }
+
+    /**
+     * Gets the number of connections in use.
+     *
+     * @return the number of leased connections.
+     */
+    public int getLeased() {
+        return _manager.getTotalStats().getLeased();
+    }
+
+    /**
+     * Gets the number of idle connections ready to be reused.
+     *
+     * @return the number of available connections.
+     */
+    public int getAvailable() {
+        return _manager.getTotalStats().getAvailable();
+    }
+
+    /**
+     * Gets the number of requests waiting for a connection.
+     *
+     * @return the number of pending requests.
+     */
+    public int getPending() {
+        return _manager.getTotalStats().getPending();
+    }
+
+    /**
+     * Closes expired and idle connections and reports pool state.
+     */
+    public void evict() {
+        _manager.closeExpiredConnections();
+        if (_idleTimeout > 0)
+            _manager.closeIdleConnections(_idleTimeout, TimeUnit.MILLISECONDS);
+
+        if (_counters != null) {
+            var stats = _manager.getTotalStats();
+            _counters.last(_leasedName, stats.getLeased());
+            _counters.last(_availableName, stats.getAvailable());
+            _counters.last(_pendingName, stats.getPending());
+        }
+    }
+
+    /**
+     * Closes all connections and stops idle eviction.
+     */
+    @Override
+    public void close() {
+        if (_eviction != null) {
+            _eviction.cancel(false);
+            _eviction = null;
+        }
+        _manager.shutdown();
+    }
+}
@@ -0,0 +1,210 @@
+package org.pipservices3.rpc.clients;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.core.Configuration;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.message.internal.Statuses;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Jersey connector based on JDK {@link HttpClient}.
+ * <p>
+ * The client prefers HTTP/2: "https" connections negotiate h2 by ALPN and "http" connections
+ * try h2c upgrade. Concurrent requests to one HTTP/2 server are multiplexed over a single connection.
+ * When the server supports only HTTP/1.1, connections are kept alive and reused.
+ * <p>
+ * Every provider owns one HttpClient and its executor, a new provider is created on each
+ * {@link RestClient#open} call. Closing the Jersey client shuts the executor down and drops
+ * the HttpClient, so its selector thread and connections are released.
+ */
+class JdkHttpConnectorProvider implements ConnectorProvider {
+    // Headers controlled by HttpClient itself
+    private static final Set<String> RESTRICTED_HEADERS = Set.of(
+            "connection", "content-length", "date", "expect", "from", "host", "upgrade", "via", "warning");
+
+    private static final AtomicInteger _providerCount = new AtomicInteger();
+
+    private final ExecutorService _executor;
+    private final Duration _timeout;
+    private volatile HttpClient _client;
+
+    /**
+     * Creates a new connector provider.
+     *
+     * @param connectTimeout the connection timeout in milliseconds.
+     * @param timeout        the invocation timeout in milliseconds.
+     */
+    public JdkHttpConnectorProvider(long connectTimeout, long timeout) {
+        var threadCount = new AtomicInteger();
+        var name = "http2-client-" + _providerCount.incrementAndGet() + "-";
+        _executor = Executors.newCachedThreadPool(runnable -> {
+            var thread = new Thread(runnable, name + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        var builder = HttpClient.newBuilder()
+                .executor(_executor)
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (connectTimeout > 0)
+            builder.connectTimeout(Duration.ofMillis(connectTimeout));
+
+        _client = builder.build();
+        _timeout = timeout > 0 ? Duration.ofMillis(timeout) : null;
+    }
+
+    @Override
+    public Connector getConnector(Client client, Configuration runtimeConfig) {
+        return new JdkHttpConnector();
+    }
+
+    /**
+     * Checks if the provider was closed together with its Jersey client.
+     *
+     * @return true if the HttpClient was released.
+     */
+    boolean isClosed() {
+        return _client == null;
+    }
+
+    private HttpClient getClient() {
+        var client = _client;
+        if (client == null)
+            throw new ProcessingException("HTTP client is closed");
+        return client;
+    }
+
+    private void close() {
+        _client = null;
+        _executor.shutdownNow();
+    }
+
+    private class JdkHttpConnector implements Connector {
+
+        private HttpRequest createRequest(ClientRequest request) throws IOException {
+            var builder = HttpRequest.newBuilder(request.getUri());
+            if (_timeout != null)
+                builder.timeout(_timeout);
+
+            var publisher = HttpRequest.BodyPublishers.noBody();
+            if (request.hasEntity()) {
+                var output = new ByteArrayOutputStream();
+                request.setStreamProvider(contentLength -> output);
+                request.writeEntity();
+                publisher = HttpRequest.BodyPublishers.ofByteArray(output.toByteArray());
+            }
+
+            // Headers are complete only after the entity is written
+            for (var header : request.getStringHeaders().entrySet()) {
+                if (RESTRICTED_HEADERS.contains(header.getKey().toLowerCase()))
+                    continue;
+                for (var value : header.getValue())
+                    builder.header(header.getKey(), value);
+            }
+
+            return builder.method(request.getMethod(), publisher).build();
+        }
+
+        private ClientResponse createResponse(ClientRequest request, HttpResponse<InputStream> response) {
+            var result = new ClientResponse(Statuses.from(response.statusCode()), request);
+            for (var header : response.headers().map().entrySet()) {
+                // Skip HTTP/2 pseudo headers
+                if (header.getKey().startsWith(":"))
+                    continue;
+                for (var value : header.getValue())
+                    result.getHeaders().add(header.getKey(), value);
+            }
+            if (hasBody(request, response)) {
+                result.setEntityStream(response.body());
+            } else {
+                // Responses without body are read as null entities, like in other connectors
+                closeBody(response);
+            }
+            return result;
+        }
+
+        private boolean hasBody(ClientRequest request, HttpResponse<InputStream> response) {
+            var status = response.statusCode();
+            if (status == 204 || status == 304 || "HEAD".equalsIgnoreCase(request.getMethod()))
+                return false;
+            return response.headers().firstValueAsLong("Content-Length").orElse(-1) != 0;
+        }
+
+        private void closeBody(HttpResponse<InputStream> response) {
+            try {
+                response.body().close();
+            } catch (IOException ex) {
+                // The body is empty, nothing to release
+            }
+        }
+
+        @Override
+        public ClientResponse apply(ClientRequest request) {
+            try {
+                var response = getClient().send(createRequest(request), HttpResponse.BodyHandlers.ofInputStream());
+                return createResponse(request, response);
+            } catch (IOException ex) {
+                throw new ProcessingException(ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ProcessingException(ex);
+            }
+        }
+
+        @Override
+        public Future<?> apply(ClientRequest request, AsyncConnectorCallback callback) {
+            HttpClient client;
+            HttpRequest httpRequest;
+            try {
+                client = getClient();
+                httpRequest = createRequest(request);
+            } catch (IOException | RuntimeException ex) {
+                callback.failure(ex);
+                return CompletableFuture.failedFuture(ex);
+            }
+
+            return client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream())
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            var cause = error instanceof CompletionException && error.getCause() != null
+                                    ? error.getCause() : error;
+                            callback.failure(cause instanceof ProcessingException ? cause : new ProcessingException(cause));
+                        } else {
+                            callback.response(createResponse(request, response));
+                        }
+                    });
+        }
+
+        @Override
+        public String getName() {
+            return "JDK HttpClient HTTP_2";
+        }
+
+        @Override
+        public void close() {
+            // JDK HttpClient has no close method before Java 21, it releases connections
+            // once it is no longer referenced and its executor is stopped
+            JdkHttpConnectorProvider.this.close();
+        }
+    }
+}
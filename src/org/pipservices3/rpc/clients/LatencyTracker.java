@@ -0,0 +1,74 @@
+package org.pipservices3.rpc.clients;
+
+import java.util.Arrays;
+
+/**
+ * Tracks a latency percentile over a window of recent calls.
+ * <p>
+ * Latencies are kept in a ring buffer. The percentile is recalculated after every
+ * tenth of the window is refreshed, so reading it costs nothing on the request path.
+ */
+public class LatencyTracker {
+    private final long[] _samples;
+    private final double _percentile;
+    private final int _minSamples;
+    private final int _refreshInterval;
+
+    private int _position;
+    private int _count;
+    private int _sinceRefresh;
+    private volatile long _value = -1;
+
+    /**
+     * Creates a new tracker.
+     *
+     * @param capacity   the number of recent latencies to keep.
+     * @param percentile the tracked percentile from 0 to 1, for instance 0.95.
+     * @param minSamples the number of latencies required before the percentile is known.
+     */
+    public LatencyTracker(int capacity, double percentile, int minSamples) {
+        _samples = new long[Math.max(capacity, 1)];
+        _percentile = Math.min(Math.max(percentile, 0), 1);
+        _minSamples = Math.min(Math.max(minSamples, 1), _samples.length);
+        _refreshInterval = Math.max(_samples.length / 10, 1);
+    }
+
+    /**
+     * Records a latency of a completed call.
+     *
+     * @param latency the latency in milliseconds.
+     */
+    public synchronized void record(long latency) {
+        _samples[_position] = latency;
+        _position = (_position + 1) % _samples.length;
+        if (_count < _samples.length)
+            _count++;
+
+        _sinceRefresh++;
+        if (_count >= _minSamples && (_sinceRefresh >= _refreshInterval || _value < 0)) {
+            _sinceRefresh = 0;
+            var sorted = Arrays.copyOf(_samples, _count);
+            Arrays.sort(sorted);
+            var index = (int) Math.ceil(_percentile * _count) - 1;
+            _value = sorted[Math.min(Math.max(index, 0), _count - 1)];
+        }
+    }
+
+    /**
+     * Gets the tracked percentile.
+     *
+     * @return the latency in milliseconds or -1 when not enough latencies were recorded.
+     */
+    public long getValue() {
+        return _value;
+    }
+
+    /**
+     * Gets the number of recorded latencies in the window.
+     *
+     * @return the number of latencies.
+     */
+    public synchronized int getCount() {
+        return _count;
+    }
+}
@@ -1,8 +1,11 @@
 package org.pipservices3.rpc.clients;
 
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.InvocationCallback;
 import jakarta.ws.rs.core.*;
 import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.RetryPolicy;
@@ -11,6 +14,7 @@ import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.jackson.JacksonFeature;
 import org.pipservices3.commons.config.ConfigParams;
 import org.pipservices3.commons.config.IConfigurable;
+import org.pipservices3.commons.convert.IntegerConverter;
 import org.pipservices3.commons.data.FilterParams;
 import org.pipservices3.commons.data.PagingParams;
 import org.pipservices3.commons.errors.*;
@@ -23,12 +27,32 @@ import org.pipservices3.components.count.CompositeCounters;
 import org.pipservices3.components.log.CompositeLogger;
 import org.pipservices3.components.trace.CompositeTracer;
 import org.pipservices3.rpc.connect.HttpConnectionResolver;
+import org.pipservices3.rpc.services.HttpCodecs;
+import org.pipservices3.rpc.services.IHttpCodec;
+import org.pipservices3.rpc.services.InstrumentPolicy;
 import org.pipservices3.rpc.services.InstrumentTiming;
 
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.time.temporal.ChronoUnit;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * Abstract client that calls remove endpoints using HTTP/REST protocol.
@@ -47,8 +71,29 @@ import java.time.temporal.ChronoUnit;
  * <li>options:
  *   <ul>
  *   <li>retries:               number of retries (default: 3)
+ *   <li>retry_delay:           base delay of exponential backoff in milliseconds (default: 100)
+ *   <li>retry_max_delay:       maximum delay between retries in milliseconds, it also caps "Retry-After" (default: 5 sec)
+ *   <li>retry_statuses:        comma-separated HTTP statuses that are retried (default: "502,503,504")
+ *   <li>idempotent_routes:     comma-separated routes that are safe to retry regardless of HTTP method, "*" for all routes
+ *   <li>retry_budget:          allowed ratio of retries to requests, 0 disables retries beyond the reserve (default: 0.2)
+ *   <li>hedge:                 sends a second idempotent request when the first one is slower than the observed p95 latency,
+ *                              the first response wins and the response of the other request is discarded (default: false)
+ *   <li>hedge_max_rate:        maximum ratio of hedged requests to all requests (default: 0.05)
+ *   <li>hedge_min_delay:       minimum delay in milliseconds before a hedged request is sent (default: 10)
+ *   <li>circuit_breaker:       enables a circuit breaker per remote endpoint, calls to an open circuit
+ *                              fail fast with ConnectionException (default: false).
+ *                              Connection errors and responses with retry statuses count as failures.
+ *                              The breaker is tuned by circuit_* options described in {@link CircuitBreaker}
  *   <li>connect_timeout:       connection timeout in milliseconds (default: 10 sec)
  *   <li>timeout:               invocation timeout in milliseconds (default: 10 sec)
+ *   <li>trace_sample_rate:     share of calls recorded by tracers from 0 to 1 (default: 1)
+ *   <li>connector:             HTTP connector: "default" for HttpURLConnection, "apache" for pooled keep-alive connections
+ *                              or "http2" for JDK HttpClient with HTTP/2 multiplexing (default: "default")
+ *   <li>max_connections:       maximum number of pooled connections (default: 100)
+ *   <li>max_per_route:         maximum number of pooled connections to one host (default: 20)
+ *   <li>idle_timeout:          time in milliseconds after which idle pooled connections are closed (default: 60 sec)
+ *   <li>codec:                 body encoding: "json", "cbor", "smile", "msgpack" or a media type (default: "json").
+ *                              Binary codecs require the matching Jackson dataformat in the classpath
  *   </ul>
  * </ul>
  * <p>
@@ -89,6 +134,11 @@ import java.time.temporal.ChronoUnit;
  */
 public class RestClient implements IOpenable, IConfigurable, IReferenceable {
 
+    /**
+     * Marks asynchronous calls abandoned by the caller, their new attempts are cancelled at once.
+     */
+    private static final CompletableFuture<Response> ABANDONED = new CompletableFuture<>();
+
     private final static ConfigParams _defaultConfig = ConfigParams.fromTuples(
             "connection.protocol", "http",
             "connection.host", "0.0.0.0",
@@ -117,6 +167,10 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
      * The tracer.
      */
     protected CompositeTracer _tracer = new CompositeTracer();
+    /**
+     * The instrumentation policy.
+     */
+    protected InstrumentPolicy _instrumentPolicy = new InstrumentPolicy("call");
 
     /**
      * The configuration options.
@@ -130,6 +184,50 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
      * The number of retries.
      */
     protected int _retries = 1;
+    /**
+     * The base delay of exponential backoff in milliseconds.
+     */
+    protected long _retryDelay = 100;
+    /**
+     * The maximum delay between retries in milliseconds.
+     */
+    protected long _retryMaxDelay = 5000;
+    /**
+     * The HTTP statuses that are retried.
+     */
+    protected Set<Integer> _retryStatuses = Set.of(502, 503, 504);
+    /**
+     * The routes that are retried regardless of HTTP method.
+     */
+    protected Set<String> _idempotentRoutes = Set.of();
+    /**
+     * The budget that limits retries to a share of requests.
+     */
+    protected RetryBudget _retryBudget = new RetryBudget(0.2, 10);
+    /**
+     * The flag to send hedged requests.
+     */
+    protected boolean _hedge = false;
+    /**
+     * The minimum delay in milliseconds before a hedged request.
+     */
+    protected long _hedgeMinDelay = 10;
+    /**
+     * The budget that limits hedged requests to a share of requests.
+     */
+    protected RetryBudget _hedgeBudget = new RetryBudget(0.05, 0);
+    /**
+     * The tracker of p95 latency that delays hedged requests.
+     */
+    protected LatencyTracker _latencyTracker = new LatencyTracker(1000, 0.95, 100);
+    /**
+     * The flag to protect remote endpoints by circuit breakers.
+     */
+    protected boolean _circuitBreaker = false;
+    /**
+     * The circuit breakers per remote endpoint.
+     */
+    protected final Map<String, CircuitBreaker> _circuitBreakers = new ConcurrentHashMap<>();
     /**
      * The connection timeout in milliseconds.
      */
@@ -143,6 +241,31 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
      */
     protected MultivaluedMap<String, Object> _headers = new MultivaluedHashMap<>();
     protected String _correlationIdLocation = "query";
+    /**
+     * The codec to encode request bodies and decode responses.
+     */
+    protected IHttpCodec _codec = HttpCodecs.getDefault();
+
+    /**
+     * The HTTP connector: "default", "apache" or "http2".
+     */
+    protected String _connector = "default";
+    /**
+     * The maximum number of pooled connections.
+     */
+    protected int _maxConnections = 100;
+    /**
+     * The maximum number of pooled connections to one host.
+     */
+    protected int _maxPerRoute = 20;
+    /**
+     * The time in milliseconds after which idle pooled connections are closed.
+     */
+    protected long _idleTimeout = 60000;
+    /**
+     * The connection pool of "apache" connector.
+     */
+    protected HttpConnectionPool _pool;
 
     /**
      * The remote service uri which is calculated on open.
@@ -173,6 +296,9 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
      * Client retry strategy
      */
     private RetryPolicy<Object> _retryPolicy;
+    private String _hedgeSentName;
+    private String _hedgeWinsName;
+    private String _circuitName;
 
     /**
      * Configures component by passing configuration parameters.
@@ -186,12 +312,59 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
         this._options = this._options.override(config.getSection("options"));
 
         this._retries = config.getAsIntegerWithDefault("options.retries", this._retries);
+        this._retryDelay = config.getAsLongWithDefault("options.retry_delay", this._retryDelay);
+        this._retryMaxDelay = config.getAsLongWithDefault("options.retry_max_delay", this._retryMaxDelay);
+
+        var retryStatuses = config.getAsNullableString("options.retry_statuses");
+        if (retryStatuses != null) {
+            var statuses = new HashSet<Integer>();
+            for (var status : retryStatuses.split(",")) {
+                if (!status.isBlank())
+                    statuses.add(IntegerConverter.toInteger(status.trim()));
+            }
+            this._retryStatuses = statuses;
+        }
+
+        var idempotentRoutes = config.getAsNullableString("options.idempotent_routes");
+        if (idempotentRoutes != null) {
+            var routes = new HashSet<String>();
+            for (var route : idempotentRoutes.split(",")) {
+                if (!route.isBlank())
+                    routes.add(route.trim());
+            }
+            this._idempotentRoutes = routes;
+        }
+
+        var retryBudget = config.getAsNullableDouble("options.retry_budget");
+        if (retryBudget != null)
+            this._retryBudget = new RetryBudget(retryBudget, 10);
+
+        this._hedge = config.getAsBooleanWithDefault("options.hedge", this._hedge);
+        this._hedgeMinDelay = config.getAsLongWithDefault("options.hedge_min_delay", this._hedgeMinDelay);
+        var hedgeMaxRate = config.getAsNullableDouble("options.hedge_max_rate");
+        if (hedgeMaxRate != null)
+            this._hedgeBudget = new RetryBudget(hedgeMaxRate, 0);
+
+        this._circuitBreaker = config.getAsBooleanWithDefault("options.circuit_breaker", this._circuitBreaker);
+
         this._connectTimeout = config.getAsLongWithDefault("options.connect_timeout", this._connectTimeout);
         this._timeout = config.getAsLongWithDefault("options.timeout", this._timeout);
+        this._instrumentPolicy.configure(config);
+
+        this._connector = config.getAsStringWithDefault("options.connector", this._connector);
+        this._maxConnections = config.getAsIntegerWithDefault("options.max_connections", this._maxConnections);
+        this._maxPerRoute = config.getAsIntegerWithDefault("options.max_per_route", this._maxPerRoute);
+        this._idleTimeout = config.getAsLongWithDefault("options.idle_timeout", this._idleTimeout);
 
         this._baseRoute = config.getAsStringWithDefault("base_route", this._baseRoute);
         this._correlationIdLocation = config.getAsStringWithDefault("options.correlation_id_place", this._correlationIdLocation);
         this._correlationIdLocation = config.getAsStringWithDefault("options.correlation_id", this._correlationIdLocation);
+
+        var codecName = config.getAsStringWithDefault("options.codec", "json");
+        var codec = HttpCodecs.get(codecName);
+        if (codec == null)
+            _logger.warn(null, "Codec %s is not available, using JSON", codecName);
+        this._codec = codec != null ? codec : HttpCodecs.getDefault();
     }
 
     /**
@@ -205,6 +378,7 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
         _logger.setReferences(references);
         _counters.setReferences(references);
         _tracer.setReferences(references);
+        _instrumentPolicy.setReferences(references);
         _connectionResolver.setReferences(references);
     }
 
@@ -218,13 +392,8 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
      * @return Timing object to end the time measurement.
      */
     protected InstrumentTiming instrument(String correlationId, String name) {
-        this._logger.trace(correlationId, "Calling %s method", name);
-        this._counters.incrementOne(name + ".call_count");
-
-        var counterTiming = this._counters.beginTiming(name + ".call_time");
-        var traceTiming = this._tracer.beginTrace(correlationId, name, null);
-        return new InstrumentTiming(correlationId, name, "call",
-                this._logger, this._counters, counterTiming, traceTiming);
+        return this._instrumentPolicy.begin(correlationId, this._instrumentPolicy.getNames(name),
+                this._logger, this._counters, this._tracer);
     }
 
     /**
@@ -261,11 +430,26 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
         clientConfig.property(ClientProperties.CONNECT_TIMEOUT, _connectTimeout);
         clientConfig.property(ClientProperties.READ_TIMEOUT, _timeout);
 
-        _retryPolicy = new RetryPolicy<>()
-                .withDelay(_timeout, _timeout * 10, ChronoUnit.MILLIS)
-                .withMaxRetries(_retries);
+        _retryPolicy = createRetryPolicy();
+
+        var name = _baseRoute != null && !_baseRoute.isEmpty() ? _baseRoute : "rest_client";
+        _hedgeSentName = name + ".hedge.sent";
+        _hedgeWinsName = name + ".hedge.wins";
+        _circuitName = name + ".circuit.";
 
         clientConfig.register(new JacksonFeature());
+        if (_codec != HttpCodecs.getDefault())
+            clientConfig.register(new HttpCodecProvider(_codec));
+
+        if ("apache".equals(_connector)) {
+            _pool = new HttpConnectionPool(name, _maxConnections, _maxPerRoute, _idleTimeout, _counters);
+            _pool.configure(clientConfig);
+        } else if ("http2".equals(_connector)) {
+            clientConfig.connectorProvider(new JdkHttpConnectorProvider(_connectTimeout, _timeout));
+        } else if (!"default".equals(_connector)) {
+            throw new ConfigException(correlationId, "WRONG_CONNECTOR", "Connector " + _connector + " is not supported")
+                    .withDetails("connector", _connector);
+        }
 
         _client = ClientBuilder.newClient(clientConfig);
 
@@ -284,6 +468,12 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
 
         _client.close();
         _client = null;
+        _circuitBreakers.clear();
+
+        if (_pool != null) {
+            _pool.close();
+            _pool = null;
+        }
 
         _logger.debug(correlationId, "Disconnected from %s", _url);
 
@@ -315,7 +505,7 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
         int pos = query.indexOf('?');
         String path = pos >= 0 ? query.substring(0, pos) : query;
         String parameters = pos >= 0 ? query.substring(pos) : "";
-        return path + "?" + (parameters.equals("") ? "" : "&") + name + "=" + value;
+        return path + "?" + (parameters.equals("") ? "" : parameters.substring(1) + "&") + name + "=" + value;
     }
 
     /**
@@ -368,10 +558,365 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
             throw new InvalidStateException(correlationId, "NOT_OPENED", "Client is not opened");
         }
 
+        var breaker = acquireCircuit(correlationId, uri);
+        _retryBudget.deposit();
+
+        var client = _client;
+        // Only the last attempt is timed, backoff between retries is not a slow call
+        var start = new AtomicLong(System.nanoTime());
         Response response;
-        response = Failsafe.with(_retryPolicy).get(
-                () -> _client.target(uri).request(mediaType).headers(_headers).method(method, body));
+        try {
+            if (!isIdempotent(method, uri)) {
+                response = client.target(uri).request(mediaType).headers(_headers).method(method, body);
+            } else if (_hedge) {
+                response = Failsafe.with(_retryPolicy).get(() -> {
+                    start.set(System.nanoTime());
+                    return awaitResponse(sendHedgedAsync(client, method, uri, mediaType, body));
+                });
+            } else {
+                response = Failsafe.with(_retryPolicy).get(() -> {
+                    start.set(System.nanoTime());
+                    return client.target(uri).request(mediaType).headers(_headers).method(method, body);
+                });
+            }
+        } catch (RuntimeException | Error ex) {
+            releaseCircuit(breaker, start.get(), null, ex);
+            throw ex;
+        }
+        releaseCircuit(breaker, start.get(), response, null);
+
+        return checkResponse(correlationId, method, uri, response);
+    }
+
+    /**
+     * Gets a permission to call the remote endpoint from its circuit breaker.
+     *
+     * @param correlationId (optional) transaction id to trace execution through call chain.
+     * @param uri           the request URI.
+     * @return the circuit breaker of the endpoint or null when circuit breakers are disabled.
+     * @throws ConnectionException when the circuit is open.
+     */
+    protected CircuitBreaker acquireCircuit(String correlationId, URI uri) throws ConnectionException {
+        if (!_circuitBreaker)
+            return null;
+
+        var endpoint = uri.getHost() + "_" + uri.getPort();
+        var breaker = _circuitBreakers.computeIfAbsent(endpoint,
+                key -> new CircuitBreaker(_circuitName + key, _options, _counters));
+
+        if (!breaker.tryAcquire()) {
+            throw (ConnectionException) new ConnectionException(correlationId, "CIRCUIT_OPEN",
+                    "Circuit to " + uri.getScheme() + "://" + uri.getAuthority() + " is open")
+                    .withDetails("uri", uri.getScheme() + "://" + uri.getAuthority());
+        }
+        return breaker;
+    }
+
+    private void releaseCircuit(CircuitBreaker breaker, long start, Response response, Throwable failure) {
+        if (breaker == null)
+            return;
+
+        if (failure instanceof CompletionException && failure.getCause() != null)
+            failure = failure.getCause();
+        // Calls abandoned by the caller say nothing about the endpoint
+        if (failure instanceof CancellationException) {
+            breaker.release();
+            return;
+        }
+
+        var duration = (System.nanoTime() - start) / 1000000;
+        // Application errors are mapped to 500 and come from a healthy endpoint,
+        // only connection errors and transport statuses count as failures
+        if (isConnectionError(failure) || (response != null && _retryStatuses.contains(response.getStatus())))
+            breaker.onFailure(duration);
+        else
+            breaker.onSuccess(duration);
+    }
+
+    private static boolean isConnectionError(Throwable failure) {
+        while (failure != null) {
+            if (failure instanceof ProcessingException)
+                return true;
+            failure = failure.getCause() != failure ? failure.getCause() : null;
+        }
+        return false;
+    }
+
+    /**
+     * Creates the retry policy for idempotent requests. Connection failures and responses
+     * with retry statuses are retried with exponential backoff and full jitter
+     * while the retry budget allows it.
+     *
+     * @return the retry policy.
+     */
+    protected RetryPolicy<Object> createRetryPolicy() {
+        // The budget is only checked by the failure predicate. A token is spent when a retry is
+        // actually scheduled, so final attempts and disabled retries keep the budget intact.
+        return new RetryPolicy<>()
+                .handleIf((result, failure) -> isRetryable(result, failure) && _retryBudget.getAvailable() > 0)
+                .withDelay((result, failure, context) -> computeRetryDelay(result, context.getAttemptCount()))
+                .withMaxRetries(_retries)
+                .onRetry(event -> {
+                    _retryBudget.tryWithdraw();
+                    // Release the connection of the rejected response
+                    if (event.getLastResult() instanceof Response)
+                        ((Response) event.getLastResult()).close();
+                });
+    }
+
+    /**
+     * Checks if a request is safe to retry. GET, HEAD, PUT, DELETE and OPTIONS requests
+     * are idempotent by definition, other requests only when their route is listed
+     * in idempotent routes.
+     *
+     * @param method the HTTP method.
+     * @param uri    the request URI.
+     * @return true if the request can be retried.
+     */
+    protected boolean isIdempotent(String method, URI uri) {
+        switch (method.toUpperCase()) {
+            case HttpMethod.GET:
+            case HttpMethod.HEAD:
+            case HttpMethod.PUT:
+            case HttpMethod.DELETE:
+            case HttpMethod.OPTIONS:
+                return true;
+        }
+
+        if (_idempotentRoutes.isEmpty())
+            return false;
+        if (_idempotentRoutes.contains("*"))
+            return true;
 
+        var path = uri.getPath();
+        var route = path != null ? path.substring(path.lastIndexOf('/') + 1) : "";
+        return _idempotentRoutes.contains(route);
+    }
+
+    private boolean isRetryable(Object result, Throwable failure) {
+        if (failure != null)
+            return failure instanceof ProcessingException;
+        return result instanceof Response && _retryStatuses.contains(((Response) result).getStatus());
+    }
+
+    private Duration computeRetryDelay(Object result, int attempts) {
+        // Full jitter: a random delay up to the exponential backoff
+        var exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        var backoff = Math.min(_retryMaxDelay, _retryDelay * (1L << exponent));
+        var delay = backoff > 0 ? ThreadLocalRandom.current().nextLong(backoff + 1) : 0;
+
+        if (result instanceof Response) {
+            var retryAfter = parseRetryAfter(((Response) result).getHeaderString(HttpHeaders.RETRY_AFTER));
+            if (retryAfter > delay)
+                delay = Math.min(retryAfter, _retryMaxDelay);
+        }
+
+        return Duration.ofMillis(delay);
+    }
+
+    private static long parseRetryAfter(String value) {
+        if (value == null || value.isBlank())
+            return 0;
+
+        value = value.trim();
+        try {
+            return Long.parseLong(value) * 1000;
+        } catch (NumberFormatException ex) {
+            // Not a number of seconds
+        }
+
+        try {
+            var date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis());
+        } catch (DateTimeParseException ex) {
+            return 0;
+        }
+    }
+
+    /**
+     * Executes a request without blocking the calling thread. Failed invocations are retried
+     * asynchronously according to the retry policy.
+     * Non-blocking I/O requires a connector with asynchronous support, like "http2",
+     * other connectors complete requests on Jersey worker threads.
+     *
+     * @param correlationId (optional) transaction id to trace execution through call chain.
+     * @param method        HTTP method: "get", "head", "post", "put", "delete"
+     * @param uri           the request URI.
+     * @param mediaType     the accepted media type.
+     * @param body          the request body.
+     * @return a future with the response, it completes exceptionally with ApplicationException.
+     */
+    protected CompletableFuture<Response> executeRequestAsync(String correlationId, String method, URI uri,
+                                                              String mediaType, Entity<?> body) {
+        if (_client == null) {
+            return CompletableFuture.failedFuture(
+                    new InvalidStateException(correlationId, "NOT_OPENED", "Client is not opened"));
+        }
+
+        CircuitBreaker breaker;
+        try {
+            breaker = acquireCircuit(correlationId, uri);
+        } catch (ConnectionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        _retryBudget.deposit();
+
+        var client = _client;
+        // Only the last attempt is timed, backoff between retries is not a slow call
+        var start = new AtomicLong(System.nanoTime());
+        var attempt = new AtomicReference<CompletableFuture<Response>>();
+        CompletableFuture<Response> sent;
+        if (!isIdempotent(method, uri)) {
+            try {
+                sent = trackAttempt(attempt, sendAsync(client, method, uri, mediaType, body));
+            } catch (RuntimeException ex) {
+                sent = CompletableFuture.failedFuture(ex);
+            }
+        } else if (_hedge) {
+            sent = Failsafe.with(_retryPolicy).getStageAsync(() -> {
+                start.set(System.nanoTime());
+                return trackAttempt(attempt, sendHedgedAsync(client, method, uri, mediaType, body));
+            });
+        } else {
+            sent = Failsafe.with(_retryPolicy).getStageAsync(() -> {
+                start.set(System.nanoTime());
+                return trackAttempt(attempt, sendAsync(client, method, uri, mediaType, body));
+            });
+        }
+
+        var future = sent;
+        if (breaker != null)
+            future = future.whenComplete((response, ex) -> releaseCircuit(breaker, start.get(), response, ex));
+
+        var result = future.thenApply(response -> {
+            try {
+                return checkResponse(correlationId, method, uri, response);
+            } catch (ApplicationException ex) {
+                throw new CompletionException(ex);
+            }
+        });
+
+        // Cancellation by the caller aborts the request in flight. A response that already arrived
+        // is never read, so it is closed to release the connection.
+        var abandoned = sent;
+        result.whenComplete((response, ex) -> {
+            if (!result.isCancelled())
+                return;
+
+            var last = attempt.getAndSet(ABANDONED);
+            abandoned.cancel(true);
+            abandoned.thenAccept(Response::close);
+            if (last != null) {
+                last.cancel(true);
+                last.thenAccept(Response::close);
+            }
+        });
+        return result;
+    }
+
+    private static CompletableFuture<Response> trackAttempt(AtomicReference<CompletableFuture<Response>> attempt,
+                                                            CompletableFuture<Response> future) {
+        if (attempt.getAndUpdate(last -> last == ABANDONED ? last : future) == ABANDONED)
+            future.cancel(true);
+        return future;
+    }
+
+    private CompletableFuture<Response> sendAsync(Client client, String method, URI uri, String mediaType,
+                                                  Entity<?> body) {
+        var result = new CompletableFuture<Response>();
+        var start = System.nanoTime();
+        var request = client.target(uri).request(mediaType).headers(_headers).async()
+                .method(method, body, new InvocationCallback<Response>() {
+                    @Override
+                    public void completed(Response response) {
+                        if (_hedge && response.getStatus() < 500)
+                            _latencyTracker.record((System.nanoTime() - start) / 1000000);
+                        // Release the connection when the request was abandoned
+                        if (!result.complete(response))
+                            response.close();
+                    }
+
+                    @Override
+                    public void failed(Throwable throwable) {
+                        result.completeExceptionally(throwable);
+                    }
+                });
+
+        result.whenComplete((response, ex) -> {
+            if (result.isCancelled())
+                request.cancel(true);
+        });
+        return result;
+    }
+
+    /**
+     * Sends a request and, when it does not answer within the observed p95 latency, a second
+     * identical request. The first response wins and the other request is cancelled. Jersey connectors
+     * do not abort requests in flight, so the losing response is closed when it arrives,
+     * which releases its connection. Failure of one request is reported only when the other one fails too.
+     */
+    private CompletableFuture<Response> sendHedgedAsync(Client client, String method, URI uri, String mediaType,
+                                                        Entity<?> body) {
+        var primary = sendAsync(client, method, uri, mediaType, body);
+        var delay = _latencyTracker.getValue();
+        // Hedging waits until enough latencies are observed
+        if (delay < 0)
+            return primary;
+
+        var result = new CompletableFuture<Response>();
+        var outstanding = new AtomicInteger(1);
+        primary.whenComplete((response, ex) -> completeHedged(result, outstanding, response, ex));
+        result.whenComplete((response, ex) -> primary.cancel(true));
+
+        var executor = CompletableFuture.delayedExecutor(Math.max(delay, _hedgeMinDelay), TimeUnit.MILLISECONDS);
+        executor.execute(() -> {
+            if (result.isDone() || !_hedgeBudget.tryWithdraw())
+                return;
+
+            outstanding.incrementAndGet();
+            _counters.incrementOne(_hedgeSentName);
+
+            var hedged = sendAsync(client, method, uri, mediaType, body);
+            hedged.whenComplete((response, ex) -> {
+                if (completeHedged(result, outstanding, response, ex))
+                    _counters.incrementOne(_hedgeWinsName);
+            });
+            result.whenComplete((response, ex) -> hedged.cancel(true));
+        });
+
+        _hedgeBudget.deposit();
+        return result;
+    }
+
+    private static boolean completeHedged(CompletableFuture<Response> result, AtomicInteger outstanding,
+                                          Response response, Throwable ex) {
+        var remaining = outstanding.decrementAndGet();
+        if (ex == null) {
+            if (result.complete(response))
+                return true;
+            response.close();
+            return false;
+        }
+
+        if (remaining <= 0)
+            result.completeExceptionally(ex);
+        return false;
+    }
+
+    private static Response awaitResponse(CompletableFuture<Response> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            throw ex.getCause();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(ex);
+        }
+    }
+
+    private Response checkResponse(String correlationId, String method, URI uri, Response response)
+            throws ApplicationException {
         if (response == null) {
             throw new UnknownException(correlationId, "NO_RESPONSE",
                     "Unable to get a result from " + method + " " + uri);
@@ -402,8 +947,41 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
         route = addCorrelationId(route, correlationId);
         URI uri = createRequestUri(route);
 
-        Entity<?> body = Entity.entity(requestEntity, MediaType.APPLICATION_JSON);
-        return executeRequest(correlationId, method, uri, MediaType.APPLICATION_JSON, body);
+        var mediaType = _codec.getMediaType();
+        Entity<?> body = Entity.entity(requestEntity, mediaType);
+        return executeRequest(correlationId, method, uri, mediaType, body);
+    }
+
+    private CompletableFuture<Response> executeJsonRequestAsync(String correlationId, String method, String route,
+                                                                Object requestEntity) {
+        route = addCorrelationId(route, correlationId);
+        URI uri = createRequestUri(route);
+
+        var mediaType = _codec.getMediaType();
+        Entity<?> body = Entity.entity(requestEntity, mediaType);
+        return executeRequestAsync(correlationId, method, uri, mediaType, body);
+    }
+
+    private <T> CompletableFuture<T> readEntityAsync(String correlationId, CompletableFuture<Response> responses,
+                                                     Function<Response, T> reader) {
+        CompletableFuture<T> result = responses.thenApply(response -> readEntity(correlationId, response, reader));
+        // Propagates cancellation to the request, so abandoned calls release their connections
+        result.whenComplete((value, ex) -> {
+            if (result.isCancelled()) {
+                responses.cancel(true);
+                responses.thenAccept(Response::close);
+            }
+        });
+        return result;
+    }
+
+    private <T> T readEntity(String correlationId, Response response, Function<Response, T> reader) {
+        try (response) {
+            return reader.apply(response);
+        } catch (RuntimeException ex) {
+            throw new CompletionException(new InvocationException(correlationId, "SERIALIZATION_FAILED",
+                    "Failed to deserialize HTTP response").wrap(ex));
+        }
     }
 
     /**
@@ -454,4 +1032,38 @@ public class RestClient implements IOpenable, IConfigurable, IReferenceable {
 //        }
     }
 
+    /**
+     * Executes a remote method via HTTP/REST protocol without blocking the calling thread.
+     *
+     * @param type          the class type of data.
+     * @param correlationId (optional) transaction id to trace execution through
+     *                      call chain.
+     * @param method        HTTP method: "get", "head", "post", "put", "delete"
+     * @param route         a command route. Base route will be added to this route
+     * @param requestEntity request body object.
+     * @return a future with the result object, it completes exceptionally with ApplicationException.
+     */
+    protected <T> CompletableFuture<T> callAsync(Class<T> type, String correlationId, String method, String route,
+                                                 Object requestEntity) {
+        return readEntityAsync(correlationId, executeJsonRequestAsync(correlationId, method, route, requestEntity),
+                r -> r.readEntity(type));
+    }
+
+    /**
+     * Executes a remote method via HTTP/REST protocol without blocking the calling thread.
+     *
+     * @param type          the generic class type of data.
+     * @param correlationId (optional) transaction id to trace execution through
+     *                      call chain.
+     * @param method        HTTP method: "get", "head", "post", "put", "delete"
+     * @param route         a command route. Base route will be added to this route
+     * @param requestEntity request body object.
+     * @return a future with the result object, it completes exceptionally with ApplicationException.
+     */
+    protected <T> CompletableFuture<T> callAsync(GenericType<T> type, String correlationId, String method,
+                                                 String route, Object requestEntity) {
+        return readEntityAsync(correlationId, executeJsonRequestAsync(correlationId, method, route, requestEntity),
+                r -> r.readEntity(type));
+    }
+
 }
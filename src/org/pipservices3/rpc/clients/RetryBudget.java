@@ -0,0 +1,71 @@
+package org.pipservices3.rpc.clients;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client-wide budget that limits retries to a share of requests.
+ * <p>
+ * Every request deposits <code>ratio</code> of a retry token and every retry withdraws
+ * a whole token. A small reserve allows retries on a cold client. When a remote service
+ * is down, the budget drains quickly and further failures are returned to callers
+ * instead of multiplying the load with retries.
+ */
+public class RetryBudget {
+    // Tokens are stored in thousandths to keep updates lock-free
+    private static final long SCALE = 1000;
+
+    private final long _deposit;
+    private final long _capacity;
+    private final AtomicLong _balance;
+
+    /**
+     * Creates a new retry budget.
+     *
+     * @param ratio   the allowed number of retries per request, for instance 0.2.
+     * @param reserve the number of retries allowed without prior requests.
+     */
+    public RetryBudget(double ratio, int reserve) {
+        _deposit = Math.round(Math.max(0, ratio) * SCALE);
+        _capacity = Math.max(reserve, 1) * SCALE + _deposit * 100;
+        _balance = new AtomicLong(Math.max(reserve, 0) * SCALE);
+    }
+
+    /**
+     * Records a request.
+     */
+    public void deposit() {
+        if (_deposit == 0)
+            return;
+
+        long balance;
+        do {
+            balance = _balance.get();
+            if (balance >= _capacity)
+                return;
+        } while (!_balance.compareAndSet(balance, Math.min(_capacity, balance + _deposit)));
+    }
+
+    /**
+     * Tries to take a token for a retry.
+     *
+     * @return true if the retry is allowed.
+     */
+    public boolean tryWithdraw() {
+        long balance;
+        do {
+            balance = _balance.get();
+            if (balance < SCALE)
+                return false;
+        } while (!_balance.compareAndSet(balance, balance - SCALE));
+        return true;
+    }
+
+    /**
+     * Gets the number of retries currently allowed.
+     *
+     * @return the number of available retry tokens.
+     */
+    public long getAvailable() {
+        return _balance.get() / SCALE;
+    }
+}
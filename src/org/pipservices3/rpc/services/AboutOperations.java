@@ -8,20 +8,16 @@ import org.pipservices3.commons.refer.IReferences;
 import org.pipservices3.commons.refer.ReferenceException;
 import org.pipservices3.components.info.ContextInfo;
 
-import java.net.Inet6Address;
-import java.net.InetAddress;
-import java.net.NetworkInterface;
 import java.net.SocketException;
 import java.net.UnknownHostException;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Enumeration;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
 public class AboutOperations extends RestOperations {
     private ContextInfo _contextInfo;
+    private Map<String, Object> _server = Map.of("name", "unknown");
 
     @Override
     public void setReferences(IReferences references) throws ReferenceException, ConfigException {
@@ -30,6 +26,14 @@ public class AboutOperations extends RestOperations {
         this._contextInfo = references.getOneOptional(ContextInfo.class,
                 new Descriptor("pip-services", "context-info", "*", "*", "*")
         );
+
+        // Static server facts are collected once per references change
+        var server = new LinkedHashMap<String, Object>();
+        server.put("name", this._contextInfo != null ? this._contextInfo.getName() : "unknown");
+        server.put("description", this._contextInfo != null ? this._contextInfo.getDescription() : null);
+        server.put("properties", this._contextInfo != null ? this._contextInfo.getProperties() : null);
+        server.put("start_time", this._contextInfo != null ? this._contextInfo.getStartTime().toOffsetDateTime().toString() : null);
+        this._server = server;
     }
 
     public Function<ContainerRequestContext, Response> getAboutOperation() {
@@ -42,52 +46,28 @@ public class AboutOperations extends RestOperations {
         };
     }
 
-    private List<String> getNetworkAddresses() throws SocketException {
-        var interfaces = NetworkInterface.getNetworkInterfaces();
-        List<String> ipAddresses = new ArrayList<>();
-        while (interfaces.hasMoreElements()) {
-            NetworkInterface iface = interfaces.nextElement();
-            // filters out 127.0.0.1 and inactive interfaces
-            if (iface.isLoopback() || !iface.isUp())
-                continue;
-
-            Enumeration<InetAddress> addresses = iface.getInetAddresses();
-            while (addresses.hasMoreElements()) {
-                InetAddress addr = addresses.nextElement();
-
-                if (addr instanceof Inet6Address)
-                    continue;
-
-                ipAddresses.add(addr.getHostAddress());
-            }
-        }
-        return ipAddresses;
-    }
-
     public Response about(ContainerRequestContext req) throws SocketException, UnknownHostException {
-        var about = Map.of(
-                "server", Map.of(
-                        "name", this._contextInfo != null ? this._contextInfo.getName() : "unknown",
-                        "description", this._contextInfo != null ? this._contextInfo.getDescription() : "null",
-                        "properties", this._contextInfo != null ? this._contextInfo.getProperties() : "null",
-                        "uptime", this._contextInfo != null ? this._contextInfo.getUptime() : "null",
+        var hostInfo = HostInfoSnapshot.getInstance();
+        var baseUri = req.getUriInfo().getBaseUri();
 
-                        "current_time", ZonedDateTime.now().toOffsetDateTime().toString(),
-                        "protocol", req.getUriInfo().getBaseUri().getScheme(),
-                        "host", HttpRequestDetector.detectServerHost(req),
-                        "addresses", this.getNetworkAddresses(),
-                        "port", HttpRequestDetector.detectServerPort(req),
-                        "url", req.getUriInfo().getBaseUri().toString()
-                ),
-                "client", Map.of(
-                        "address", HttpRequestDetector.detectAddress(req),
-                        "client", HttpRequestDetector.detectBrowser(req),
-                        "platform", HttpRequestDetector.detectPlatform(req),
-                        "user", req.getProperty("user")
-                )
-        );
+        var server = new LinkedHashMap<String, Object>(this._server);
+        server.put("uptime", this._contextInfo != null ? this._contextInfo.getUptime() : null);
+        server.put("current_time", ZonedDateTime.now().toOffsetDateTime().toString());
+        server.put("protocol", baseUri.getScheme());
+        server.put("host", hostInfo.getHostName());
+        server.put("addresses", hostInfo.getAddresses());
+        server.put("port", baseUri.getPort() > 0 ? baseUri.getPort() : HttpRequestDetector.detectServerPort(req));
+        server.put("url", baseUri.toString());
+
+        var client = new LinkedHashMap<String, Object>();
+        client.put("address", HttpRequestDetector.detectAddress(req));
+        client.put("client", HttpRequestDetector.detectBrowser(req));
+        client.put("platform", HttpRequestDetector.detectPlatform(req));
+        client.put("user", req.getProperty("user"));
 
-        about.get("server").put("start_time", this._contextInfo != null ? this._contextInfo.getStartTime().toOffsetDateTime().toString() : null);
+        var about = new LinkedHashMap<String, Object>();
+        about.put("server", server);
+        about.put("client", client);
 
         return HttpResponseSender.sendResult(about);
     }
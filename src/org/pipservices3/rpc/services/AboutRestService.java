@@ -0,0 +1,123 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.process.Inflector;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.errors.ConfigException;
+import org.pipservices3.commons.refer.IReferences;
+import org.pipservices3.commons.refer.ReferenceException;
+
+import java.net.SocketException;
+import java.net.UnknownHostException;
+
+/**
+ * Service that returns information about the microservice and the calling client via HTTP/REST protocol.
+ * <p>
+ * The service responds on /about route (can be changed) with a JSON object
+ * that contains "server" and "client" sections. Host name and network addresses
+ * of the server are collected once and refreshed in background.
+ * <p>
+ * ### Configuration parameters ###
+ * <ul>
+ * <li>base_route:              base route for remote URI
+ * <li>route:                   about route (default: "about")
+ * <li>dependencies:
+ *   <ul>
+ *   <li>endpoint:              override for HTTP Endpoint dependency, set to "*:endpoint:admin:*:1.0" to serve it on {@link AdminHttpEndpoint}
+ *   </ul>
+ * <li>connection(s):
+ *   <ul>
+ *   <li>discovery_key:         (optional) a key to retrieve the connection from IDiscovery
+ *   <li>protocol:              connection protocol: http or https
+ *   <li>host:                  host name or IP address
+ *   <li>port:                  port number
+ *   <li>uri:                   resource URI or connection string with all parameters in it
+ *   </ul>
+ * </ul>
+ * <p>
+ * ### References ###
+ * <ul>
+ * <li>*:logger:*:*:1.0               (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/log/ILogger.html">ILogger</a> components to pass log messages
+ * <li>*:counters:*:*:1.0             (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/count/ICounters.html">ICounters</a> components to pass collected measurements
+ * <li>*:context-info:*:*:1.0         (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/info/ContextInfo.html">ContextInfo</a> to describe the container
+ * <li>*:endpoint:http:*:1.0          (optional) {@link HttpEndpoint} reference
+ * </ul>
+ * <p>
+ * ### Example ###
+ * <pre>
+ * {@code
+ * AboutRestService service = new AboutRestService();
+ * service.configure(ConfigParams.fromTuples(
+ *     "connection.protocol", "http",
+ *     "connection.host", "localhost",
+ *     "connection.port", 8080
+ * ));
+ *
+ * service.open("123");
+ * System.out.println("The About service is accessible at http://+:8080/about");
+ * }
+ * </pre>
+ *
+ * @see RestService
+ * @see AboutOperations
+ */
+public class AboutRestService extends RestService {
+    private final AboutOperations _operations = new AboutOperations();
+    private String _route = "about";
+
+    /**
+     * Configures component by passing configuration parameters.
+     *
+     * @param config configuration parameters to be set.
+     * @throws ConfigException when configuration is wrong.
+     */
+    @Override
+    public void configure(ConfigParams config) throws ConfigException {
+        super.configure(config);
+
+        _route = config.getAsStringWithDefault("route", _route);
+    }
+
+    /**
+     * Sets references to dependent components.
+     *
+     * @param references references to locate the component dependencies.
+     * @throws ReferenceException when no found references.
+     * @throws ConfigException    when configuration is wrong.
+     */
+    @Override
+    public void setReferences(IReferences references) throws ReferenceException, ConfigException {
+        super.setReferences(references);
+
+        _operations.setReferences(references);
+    }
+
+    /**
+     * Registers all service routes in HTTP endpoint.
+     */
+    @Override
+    public void register() {
+        registerRoute(HttpMethod.GET, _route, new Inflector<ContainerRequestContext, Response>() {
+            @Override
+            public Response apply(ContainerRequestContext request) {
+                return about(request);
+            }
+        });
+    }
+
+    /**
+     * Handles about requests
+     *
+     * @param request an HTTP request
+     * @return an HTTP response
+     */
+    private Response about(ContainerRequestContext request) {
+        try {
+            return _operations.about(request);
+        } catch (SocketException | UnknownHostException ex) {
+            return sendError(ex);
+        }
+    }
+}
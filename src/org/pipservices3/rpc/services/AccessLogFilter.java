@@ -0,0 +1,114 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Jersey filter that collects request records for {@link HttpAccessLog}.
+ * <p>
+ * Responses without a body are recorded in the response filter. Responses with a body
+ * are recorded after the body is written, so the number of sent bytes is known.
+ */
+@Provider
+@PreMatching
+class AccessLogFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+    private final static String START_PROPERTY = "pip-services.access_log.start";
+    private final static String RECORD_PROPERTY = "pip-services.access_log.record";
+
+    private final HttpEndpoint _endpoint;
+    private final HttpAccessLog _accessLog;
+
+    AccessLogFilter(HttpEndpoint endpoint, HttpAccessLog accessLog) {
+        _endpoint = endpoint;
+        _accessLog = accessLog;
+    }
+
+    private static class PendingRecord {
+        final String method;
+        final String route;
+        final int status;
+        final long start;
+        final String correlationId;
+
+        PendingRecord(String method, String route, int status, long start, String correlationId) {
+            this.method = method;
+            this.route = route;
+            this.status = status;
+            this.start = start;
+            this.correlationId = correlationId;
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request) {
+        request.setProperty(START_PROPERTY, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        var start = (Long) request.getProperty(START_PROPERTY);
+        var route = (String) request.getProperty(HttpEndpoint.ROUTE_PROPERTY);
+        if (route == null)
+            route = "/" + request.getUriInfo().getPath(false);
+
+        var record = new PendingRecord(request.getMethod(), route, response.getStatus(),
+                start != null ? start : System.nanoTime(), _endpoint.getCorrelationId(request));
+
+        if (response.hasEntity())
+            request.setProperty(RECORD_PROPERTY, record);
+        else
+            append(record, 0);
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        var record = (PendingRecord) context.getProperty(RECORD_PROPERTY);
+        if (record == null) {
+            context.proceed();
+            return;
+        }
+
+        var stream = new CountingOutputStream(context.getOutputStream());
+        context.setOutputStream(stream);
+        try {
+            context.proceed();
+        } finally {
+            append(record, stream.count);
+        }
+    }
+
+    private void append(PendingRecord record, long bytes) {
+        _accessLog.append(record.method, record.route, record.status, bytes,
+                System.nanoTime() - record.start, record.correlationId);
+    }
+}
@@ -0,0 +1,65 @@
+package org.pipservices3.rpc.services;
+
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.errors.ConfigException;
+
+/**
+ * HTTP endpoint for administrative traffic: health checks, status and metrics.
+ * <p>
+ * It runs a separate HTTP server on its own port with a small dedicated thread pool,
+ * so liveness and readiness probes stay responsive when the main endpoint
+ * is overloaded with business requests.
+ * <p>
+ * Services are bound to the admin endpoint by overriding their endpoint dependency
+ * with <code>"dependencies.endpoint"</code> set to <code>"*:endpoint:admin:*:1.0"</code>.
+ * <p>
+ * ### Configuration parameters ###
+ * <p>
+ * Accepts all parameters of {@link HttpEndpoint} with different defaults:
+ * <ul>
+ * <li>connection.port - the admin port (default: 3001)
+ * <li>options.max_threads - number of threads to handle admin requests (default: 2)
+ * </ul>
+ * <p>
+ * ### Examples ###
+ * <pre>
+ * {@code
+ * # Container configuration
+ * - descriptor: "pip-services:endpoint:admin:default:1.0"
+ *   connection:
+ *     protocol: "http"
+ *     host: "0.0.0.0"
+ *     port: 3001
+ *
+ * - descriptor: "pip-services:heartbeat-service:http:default:1.0"
+ *   dependencies:
+ *     endpoint: "*:endpoint:admin:*:1.0"
+ *
+ * - descriptor: "pip-services:status-service:http:default:1.0"
+ *   dependencies:
+ *     endpoint: "*:endpoint:admin:*:1.0"
+ * }
+ * </pre>
+ *
+ * @see HttpEndpoint
+ * @see HeartbeatRestService
+ * @see StatusRestService
+ */
+public class AdminHttpEndpoint extends HttpEndpoint {
+
+    private static final ConfigParams _defaultConfig = ConfigParams.fromTuples(
+            "connection.port", 3001,
+            "options.max_threads", 2
+    );
+
+    /**
+     * Configures this endpoint using the given configuration parameters.
+     *
+     * @param config configuration parameters, containing a "connection(s)" section.
+     * @throws ConfigException when configuration is wrong.
+     */
+    @Override
+    public void configure(ConfigParams config) throws ConfigException {
+        super.configure(config.setDefaults(_defaultConfig));
+    }
+}
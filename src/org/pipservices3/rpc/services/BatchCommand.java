@@ -0,0 +1,38 @@
+package org.pipservices3.rpc.services;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+/**
+ * Entry of a batch call to a commandable HTTP service.
+ *
+ * @see CommandableHttpService
+ * @see BatchCommandResult
+ */
+public class BatchCommand {
+    private String _command;
+    private Map<String, Object> _args;
+
+    public BatchCommand() {
+    }
+
+    /**
+     * Creates a new batch entry.
+     *
+     * @param command the name of the command to call.
+     * @param args    (optional) the command arguments.
+     */
+    public BatchCommand(String command, Map<String, Object> args) {
+        _command = command;
+        _args = args;
+    }
+
+    @JsonProperty("command")
+    public String getCommand() { return _command; }
+    public void setCommand(String value) { _command = value; }
+
+    @JsonProperty("args")
+    public Map<String, Object> getArgs() { return _args; }
+    public void setArgs(Map<String, Object> value) { _args = value; }
+}
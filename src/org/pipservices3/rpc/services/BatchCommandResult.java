@@ -0,0 +1,72 @@
+package org.pipservices3.rpc.services;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.pipservices3.commons.errors.ApplicationException;
+import org.pipservices3.commons.errors.ApplicationExceptionFactory;
+import org.pipservices3.commons.errors.ErrorDescription;
+
+/**
+ * Result of a batch entry returned by a commandable HTTP service.
+ * It contains either a command result or an error.
+ *
+ * @see CommandableHttpService
+ * @see BatchCommand
+ */
+public class BatchCommandResult {
+    private String _command;
+    private Object _result;
+    private ErrorDescription _error;
+
+    public BatchCommandResult() {
+    }
+
+    /**
+     * Creates a new batch entry result.
+     *
+     * @param command the name of the called command.
+     * @param result  the command result.
+     * @param error   the error raised by the command.
+     */
+    public BatchCommandResult(String command, Object result, ErrorDescription error) {
+        _command = command;
+        _result = result;
+        _error = error;
+    }
+
+    @JsonProperty("command")
+    public String getCommand() { return _command; }
+    public void setCommand(String value) { _command = value; }
+
+    @JsonProperty("result")
+    public Object getResult() { return _result; }
+    public void setResult(Object value) { _result = value; }
+
+    @JsonProperty("error")
+    public ErrorDescription getError() { return _error; }
+    public void setError(ErrorDescription value) { _error = value; }
+
+    /**
+     * Checks if the command was executed without errors.
+     *
+     * @return true if there is no error.
+     */
+    @JsonIgnore
+    public boolean isSuccess() {
+        return _error == null;
+    }
+
+    /**
+     * Gets the command result converted to the given type.
+     *
+     * @param type the class type of the result.
+     * @return the converted result.
+     * @throws ApplicationException when the command failed.
+     */
+    public <T> T getResultAs(Class<T> type) throws ApplicationException {
+        if (_error != null)
+            throw ApplicationExceptionFactory.create(_error);
+
+        return JacksonHttpCodec.getDefault().getMapper().convertValue(_result, type);
+    }
+}
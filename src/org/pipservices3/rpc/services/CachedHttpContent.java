@@ -0,0 +1,111 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Static text content prepared once to be served over HTTP.
+ * It keeps UTF-8 bytes, a pre-gzipped copy and an ETag computed from the content,
+ * so repeated requests are answered without encoding, compression or hashing.
+ * Requests with matching "If-None-Match" header receive 304 status without a body.
+ */
+class CachedHttpContent {
+    private final String _source;
+    private final String _contentType;
+    private final byte[] _bytes;
+    private final byte[] _gzipped;
+    private final String _etag;
+
+    /**
+     * Creates cached content.
+     *
+     * @param source      the text content.
+     * @param contentType the media type of the content.
+     */
+    public CachedHttpContent(String source, String contentType) {
+        _source = source;
+        _contentType = contentType;
+        _bytes = source.getBytes(StandardCharsets.UTF_8);
+        _gzipped = gzip(_bytes);
+        _etag = "\"" + hash(_bytes) + "\"";
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        var output = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (var stream = new GZIPOutputStream(output)) {
+            stream.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return output.toByteArray();
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Checks if this content was prepared from the given text.
+     *
+     * @param source the text to check.
+     * @return true if it is the same text instance.
+     */
+    public boolean isFor(String source) {
+        return _source == source;
+    }
+
+    public String getEtag() {
+        return _etag;
+    }
+
+    public byte[] getBytes() {
+        return _bytes;
+    }
+
+    public byte[] getGzipped() {
+        return _gzipped;
+    }
+
+    /**
+     * Creates a response for the request considering "If-None-Match" and "Accept-Encoding" headers.
+     *
+     * @param request the HTTP request.
+     * @return the response with the content or 304 status.
+     */
+    public Response send(ContainerRequestContext request) {
+        var ifNoneMatch = request.getHeaderString(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(_etag) || ifNoneMatch.trim().equals("*"))) {
+            return Response.notModified()
+                    .header(HttpHeaders.ETAG, _etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        var acceptEncoding = request.getHeaderString(HttpHeaders.ACCEPT_ENCODING);
+        var gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        var body = gzip ? _gzipped : _bytes;
+
+        var response = Response.ok(body, _contentType)
+                .header(HttpHeaders.CONTENT_LENGTH, body.length)
+                .header(HttpHeaders.ETAG, _etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip)
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return response.build();
+    }
+}
@@ -0,0 +1,40 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Jersey filter that re-encodes response entities according to "Accept" header.
+ * <p>
+ * Only entities created by {@link JacksonHttpCodec#toEntity} are affected,
+ * they still hold the original value and are not serialized yet.
+ * Such responses get "Vary: Accept" header since their encoding depends on the request.
+ *
+ * @see HttpCodecs
+ */
+@Provider
+class CodecNegotiationFilter implements ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        if (!(response.getEntity() instanceof JacksonHttpCodec.EncodedEntity))
+            return;
+
+        // The encoding depends on "Accept" header, so caches must not share responses across it
+        var vary = response.getHeaderString(HttpHeaders.VARY);
+        if (vary == null || !vary.toLowerCase().contains("accept"))
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        var codec = HttpCodecs.negotiate(request.getHeaderString(HttpHeaders.ACCEPT));
+        var entity = (JacksonHttpCodec.EncodedEntity) response.getEntity();
+        if (codec == null || codec == entity.getCodec())
+            return;
+
+        response.setEntity(new JacksonHttpCodec.EncodedEntity(codec, entity.getValue()),
+                response.getEntityAnnotations(), MediaType.valueOf(codec.getMediaType()));
+    }
+}
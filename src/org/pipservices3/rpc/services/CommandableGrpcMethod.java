@@ -0,0 +1,95 @@
+package org.pipservices3.rpc.services;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.grpc.MethodDescriptor;
+import org.pipservices3.commons.errors.ErrorDescription;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Definition of the generic gRPC method shared by {@link CommandableGrpcService}
+ * and {@link org.pipservices3.rpc.clients.CommandableGrpcClient}.
+ * <p>
+ * All commands are called through a single unary method "commandable.Commandable/invoke".
+ * Requests and replies are opaque byte arrays encoded by an {@link IHttpCodec},
+ * so no generated protobuf stubs are required.
+ * The full command name is made of the service base route and the command name: "dummy.get_dummies".
+ */
+public final class CommandableGrpcMethod {
+    public static final String SERVICE_NAME = "commandable.Commandable";
+    public static final String METHOD_NAME = "invoke";
+
+    private static final MethodDescriptor.Marshaller<byte[]> BYTES = new MethodDescriptor.Marshaller<>() {
+        @Override
+        public InputStream stream(byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try {
+                return stream.readAllBytes();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    };
+
+    /**
+     * Descriptor of the generic invoke method.
+     */
+    public static final MethodDescriptor<byte[], byte[]> INVOKE = MethodDescriptor.<byte[], byte[]>newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, METHOD_NAME))
+            .setRequestMarshaller(BYTES)
+            .setResponseMarshaller(BYTES)
+            .build();
+
+    private CommandableGrpcMethod() {
+    }
+
+    /**
+     * Payload of the invoke request.
+     */
+    public static class InvokeRequest {
+        @JsonProperty("method")
+        public String method;
+        @JsonProperty("correlation_id")
+        public String correlationId;
+        @JsonProperty("args")
+        public Map<String, Object> args;
+
+        public InvokeRequest() {
+        }
+
+        public InvokeRequest(String method, String correlationId, Map<String, Object> args) {
+            this.method = method;
+            this.correlationId = correlationId;
+            this.args = args;
+        }
+    }
+
+    /**
+     * Payload of the invoke reply. It contains either a result or an error.
+     *
+     * @param <T> the type of the result.
+     */
+    public static class InvokeReply<T> {
+        @JsonProperty("error")
+        public ErrorDescription error;
+        @JsonProperty("result")
+        public T result;
+
+        public InvokeReply() {
+        }
+
+        public InvokeReply(ErrorDescription error, T result) {
+            this.error = error;
+            this.result = result;
+        }
+    }
+}
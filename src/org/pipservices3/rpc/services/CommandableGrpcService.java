@@ -0,0 +1,344 @@
+package org.pipservices3.rpc.services;
+
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import org.pipservices3.commons.commands.CommandSet;
+import org.pipservices3.commons.commands.ICommand;
+import org.pipservices3.commons.commands.ICommandable;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.config.IConfigurable;
+import org.pipservices3.commons.errors.ApplicationException;
+import org.pipservices3.commons.errors.ConfigException;
+import org.pipservices3.commons.errors.ConnectionException;
+import org.pipservices3.commons.errors.ErrorDescriptionFactory;
+import org.pipservices3.commons.errors.InvocationException;
+import org.pipservices3.commons.refer.DependencyResolver;
+import org.pipservices3.commons.refer.IReferenceable;
+import org.pipservices3.commons.refer.IReferences;
+import org.pipservices3.commons.refer.ReferenceException;
+import org.pipservices3.commons.run.IOpenable;
+import org.pipservices3.commons.run.Parameters;
+import org.pipservices3.components.connect.ConnectionResolver;
+import org.pipservices3.components.count.CompositeCounters;
+import org.pipservices3.components.log.CompositeLogger;
+import org.pipservices3.components.trace.CompositeTracer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service that receives remote calls via gRPC protocol to operations automatically
+ * generated for commands defined in <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/commons/commands/ICommandable.html">ICommandable</a> components.
+ * <p>
+ * All commands are exposed through the generic method described in {@link CommandableGrpcMethod}.
+ * Command names are prefixed with the service name: "dummy.get_dummies".
+ * Parameters and results are carried as binary payloads encoded by the configured codec.
+ * <p>
+ * gRPC libraries are optional dependencies of this module, services that use gRPC
+ * must add io.grpc:grpc-netty-shaded and io.grpc:grpc-stub themselves.
+ * <p>
+ * ### Configuration parameters ###
+ * <ul>
+ * <li>dependencies:
+ *   <ul>
+ *   <li>controller:            override for Controller dependency
+ *   </ul>
+ * <li>connection(s):
+ *   <ul>
+ *   <li>discovery_key:         (optional) a key to retrieve the connection from <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/connect/IDiscovery.html">IDiscovery</a>
+ *   <li>protocol:              connection protocol: "grpc" or "inproc" for in-process server (default: "grpc")
+ *   <li>host:                  host name or IP address to bind to, for "inproc" protocol - the server name
+ *   <li>port:                  port number
+ *   </ul>
+ * <li>options:
+ *   <ul>
+ *   <li>codec:                 payload encoding: "json", "cbor", "smile" or "msgpack" (default: "json")
+ *   <li>trace_sample_rate:     share of calls recorded by tracers from 0 to 1 (default: 1)
+ *   </ul>
+ * </ul>
+ * <p>
+ * ### References ###
+ * <ul>
+ * <li>*:logger:*:*:1.0               (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/log/ILogger.html">ILogger</a> components to pass log messages
+ * <li>*:counters:*:*:1.0             (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/count/ICounters.html">ICounters</a> components to pass collected measurements
+ * <li>*:tracer:*:*:1.0               (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/trace/ITracer.html">ITracer</a> components to record traces
+ * <li>*:discovery:*:*:1.0            (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/connect/IDiscovery.html">IDiscovery</a> services to resolve connection
+ * </ul>
+ * <p>
+ * ### Example ###
+ * <pre>
+ * {@code
+ * class MyCommandableGrpcService extends CommandableGrpcService {
+ *    public MyCommandableGrpcService() {
+ *       super("v1.service");
+ *       this._dependencyResolver.put(
+ *           "controller",
+ *           new Descriptor("mygroup","controller","*","*","1.0")
+ *       );
+ *    }
+ * }
+ *
+ * MyCommandableGrpcService service = new MyCommandableGrpcService();
+ * service.configure(ConfigParams.fromTuples(
+ *     "connection.protocol", "grpc",
+ *     "connection.host", "localhost",
+ *     "connection.port", 8090
+ * ));
+ * service.setReferences(References.fromTuples(
+ *    new Descriptor("mygroup","controller","default","default","1.0"), controller
+ * ));
+ *
+ * service.open("123");
+ * System.out.println("The gRPC service is running on port 8090");
+ * }
+ * </pre>
+ *
+ * @see CommandableGrpcMethod
+ * @see org.pipservices3.rpc.clients.CommandableGrpcClient
+ */
+public class CommandableGrpcService implements IOpenable, IConfigurable, IReferenceable {
+
+    /**
+     * The service name used as a prefix of command names.
+     */
+    protected String _name;
+    /**
+     * The dependency resolver.
+     */
+    protected DependencyResolver _dependencyResolver = new DependencyResolver();
+    /**
+     * The connection resolver.
+     */
+    protected ConnectionResolver _connectionResolver = new ConnectionResolver();
+    /**
+     * The logger.
+     */
+    protected CompositeLogger _logger = new CompositeLogger();
+    /**
+     * The performance counters.
+     */
+    protected CompositeCounters _counters = new CompositeCounters();
+    /**
+     * The tracer.
+     */
+    protected CompositeTracer _tracer = new CompositeTracer();
+    /**
+     * The instrumentation policy.
+     */
+    protected InstrumentPolicy _instrumentPolicy = new InstrumentPolicy("exec");
+    /**
+     * The codec to encode payloads.
+     */
+    protected IHttpCodec _codec = HttpCodecs.getDefault();
+
+    private final Map<String, ICommand> _commands = new HashMap<>();
+    private ICommandable _controller;
+    private Server _server;
+
+    /**
+     * Creates a new instance of the service.
+     *
+     * @param name a service name.
+     */
+    public CommandableGrpcService(String name) {
+        _name = name;
+        _dependencyResolver.put("controller", "none");
+    }
+
+    /**
+     * Configures component by passing configuration parameters.
+     *
+     * @param config configuration parameters to be set.
+     * @throws ConfigException when configuration is wrong.
+     */
+    @Override
+    public void configure(ConfigParams config) throws ConfigException {
+        _dependencyResolver.configure(config);
+        _connectionResolver.configure(config);
+        _instrumentPolicy.configure(config);
+
+        var codecName = config.getAsStringWithDefault("options.codec", "json");
+        _codec = HttpCodecs.get(codecName);
+        if (_codec == null)
+            throw new ConfigException(null, "CODEC_NOT_AVAILABLE", "Codec " + codecName + " is not available");
+    }
+
+    /**
+     * Sets references to dependent components.
+     *
+     * @param references references to locate the component dependencies.
+     * @throws ReferenceException when no found references.
+     * @throws ConfigException    when configuration is wrong.
+     */
+    @Override
+    public void setReferences(IReferences references) throws ReferenceException, ConfigException {
+        _logger.setReferences(references);
+        _counters.setReferences(references);
+        _tracer.setReferences(references);
+        _instrumentPolicy.setReferences(references);
+        _connectionResolver.setReferences(references);
+        _dependencyResolver.setReferences(references);
+
+        _controller = (ICommandable) _dependencyResolver.getOneRequired("controller");
+    }
+
+    /**
+     * Adds instrumentation to log calls and measure call time. It returns a Timing
+     * object that is used to end the time measurement.
+     *
+     * @param correlationId (optional) transaction id to trace execution through
+     *                      call chain.
+     * @param name          a method name.
+     * @return Timing object to end the time measurement.
+     */
+    protected InstrumentTiming instrument(String correlationId, String name) {
+        return this._instrumentPolicy.begin(correlationId, this._instrumentPolicy.getNames(name),
+                this._logger, this._counters, this._tracer);
+    }
+
+    /**
+     * Checks if the component is opened.
+     *
+     * @return true if the component has been opened and false otherwise.
+     */
+    @Override
+    public boolean isOpen() {
+        return _server != null;
+    }
+
+    /**
+     * Opens the component.
+     *
+     * @param correlationId (optional) transaction id to trace execution through
+     *                      call chain.
+     * @throws ApplicationException when error occured.
+     */
+    @Override
+    public void open(String correlationId) throws ApplicationException {
+        if (_server != null)
+            return;
+
+        var connection = _connectionResolver.resolve(correlationId);
+        if (connection == null)
+            throw new ConfigException(correlationId, "NO_CONNECTION", "Connection for gRPC service is not defined");
+
+        _commands.clear();
+        if (_controller != null) {
+            CommandSet commandSet = _controller.getCommandSet();
+            for (var command : commandSet.getCommands())
+                _commands.put(_name + "." + command.getName(), command);
+        }
+
+        var definition = ServerServiceDefinition.builder(CommandableGrpcMethod.SERVICE_NAME)
+                .addMethod(CommandableGrpcMethod.INVOKE, ServerCalls.asyncUnaryCall(this::invoke))
+                .build();
+
+        var protocol = connection.getProtocolWithDefault("grpc");
+        try {
+            if ("inproc".equals(protocol)) {
+                _server = InProcessServerBuilder.forName(connection.getHost())
+                        .addService(definition)
+                        .build()
+                        .start();
+            } else {
+                var host = connection.getHost();
+                var address = host != null && !host.isEmpty()
+                        ? new InetSocketAddress(host, connection.getPort())
+                        : new InetSocketAddress(connection.getPort());
+                _server = NettyServerBuilder.forAddress(address)
+                        .addService(definition)
+                        .build()
+                        .start();
+            }
+        } catch (Exception ex) {
+            _server = null;
+            throw new ConnectionException(correlationId, "CANNOT_CONNECT", "Opening gRPC service failed").wrap(ex);
+        }
+
+        _logger.debug(correlationId, "Opened gRPC service %s on %s://%s:%d", _name, protocol,
+                connection.getHost(), connection.getPort());
+    }
+
+    /**
+     * Closes component and frees used resources.
+     *
+     * @param correlationId (optional) transaction id to trace execution through
+     *                      call chain.
+     * @throws ApplicationException when error occured.
+     */
+    @Override
+    public void close(String correlationId) throws ApplicationException {
+        if (_server == null)
+            return;
+
+        try {
+            _server.shutdown();
+            if (!_server.awaitTermination(10, TimeUnit.SECONDS))
+                _server.shutdownNow();
+        } catch (InterruptedException ex) {
+            _server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        _server = null;
+        _logger.debug(correlationId, "Closed gRPC service %s", _name);
+    }
+
+    private void invoke(byte[] request, StreamObserver<byte[]> responseObserver) {
+        CommandableGrpcMethod.InvokeReply<Object> reply;
+        String correlationId = null;
+
+        try {
+            CommandableGrpcMethod.InvokeRequest invokeRequest
+                    = _codec.read(CommandableGrpcMethod.InvokeRequest.class, new ByteArrayInputStream(request));
+            correlationId = invokeRequest.correlationId;
+            reply = executeCommand(invokeRequest);
+        } catch (Exception ex) {
+            var error = new InvocationException(correlationId, "INVALID_REQUEST", "Failed to decode gRPC request").wrap(ex);
+            reply = new CommandableGrpcMethod.InvokeReply<>(ErrorDescriptionFactory.create(error), null);
+        }
+
+        try {
+            var output = new ByteArrayOutputStream();
+            _codec.write(reply, output);
+            responseObserver.onNext(output.toByteArray());
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(ex);
+        }
+    }
+
+    private CommandableGrpcMethod.InvokeReply<Object> executeCommand(CommandableGrpcMethod.InvokeRequest request) {
+        var correlationId = request.correlationId;
+        var command = request.method != null ? _commands.get(request.method) : null;
+
+        if (command == null) {
+            var error = new InvocationException(correlationId, "METHOD_NOT_FOUND", "Method " + request.method + " was not found")
+                    .withDetails("method", request.method);
+            return new CommandableGrpcMethod.InvokeReply<>(ErrorDescriptionFactory.create(error), null);
+        }
+
+        InstrumentTiming timing = instrument(correlationId, request.method);
+        try {
+            var parameters = request.args != null ? new Parameters(request.args) : new Parameters();
+            var result = command.execute(correlationId, parameters);
+            return new CommandableGrpcMethod.InvokeReply<>(null, result);
+        } catch (Exception ex) {
+            timing.endFailure(ex);
+            var error = ex instanceof ApplicationException
+                    ? ErrorDescriptionFactory.create((ApplicationException) ex)
+                    : ErrorDescriptionFactory.create(ex, correlationId);
+            return new CommandableGrpcMethod.InvokeReply<>(error, null);
+        } finally {
+            timing.endTiming();
+        }
+    }
+}
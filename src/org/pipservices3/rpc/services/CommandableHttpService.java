@@ -1,5 +1,7 @@
 package org.pipservices3.rpc.services;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Response;
@@ -8,22 +10,63 @@ import org.pipservices3.commons.commands.CommandSet;
 import org.pipservices3.commons.commands.ICommand;
 import org.pipservices3.commons.commands.ICommandable;
 import org.pipservices3.commons.config.ConfigParams;
-import org.pipservices3.commons.errors.ConfigException;
+import org.pipservices3.commons.convert.BooleanConverter;
+import org.pipservices3.commons.errors.*;
 import org.pipservices3.commons.refer.IReferences;
 import org.pipservices3.commons.refer.ReferenceException;
 import org.pipservices3.commons.run.Parameters;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Abstract service that receives remove calls via HTTP/REST protocol
  * to operations automatically generated for commands defined in <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/commons/commands/ICommandable.html">ICommandable</a> components.
  * Each command is exposed as POST operation that receives all parameters in body object.
  * <p>
+ * When batch is enabled, the service also exposes POST operation that receives an array of
+ * {@link BatchCommand} entries and returns an array of {@link BatchCommandResult} in the same order.
+ * The entries are executed sequentially unless <code>parallel=true</code> query parameter is set.
+ * Parallel entries run on a bounded executor of the service, entries that find all its threads
+ * busy are executed on the request thread. A command with the same name as the batch route is rejected.
+ * <p>
+ * Commands that return <code>CompletionStage</code> are completed asynchronously by the controller.
+ * Commands listed in <code>async.offload</code> are executed on a bounded executor of the service,
+ * when all its threads are busy and its queue is full the client receives an error with 503 status.
+ * In both cases the request thread still waits for the result: the response is sent when the result
+ * is completed or the timeout expires, in the latter case the client receives an error with 504 status
+ * and an offloaded command is interrupted.
+ * An offloaded command therefore holds two threads: the request thread blocked on its result and a worker
+ * of the offload executor. Offloading bounds the number of concurrently executed commands and lets slow
+ * commands time out, but <code>async.max_threads</code> does not lower the total number of threads in use.
+ * Requests are handled concurrently only when the endpoint has request threads (<code>options.max_threads</code>).
+ * <p>
  * Commandable services require only 3 lines of code to implement a robust external
  * HTTP-based remote interface.
  * <p>
  * ### Configuration parameters ###
  * <ul>
  * <li>base_route:              base route for remote URI
+ * <li>batch:
+ *   <ul>
+ *   <li>enable:                enables the batch route that executes several commands in one call (default: false)
+ *   <li>route:                 route of the batch operation (default: "batch")
+ *   <li>max_size:              maximum number of commands in one batch (default: 100)
+ *   <li>max_threads:           maximum number of threads that execute parallel batches (default: 4)
+ *   </ul>
+ * <li>async:
+ *   <ul>
+ *   <li>timeout:               timeout in milliseconds to wait for asynchronous results (default: 30000)
+ *   <li>offload:               comma-separated list of commands executed on a separate executor, "*" for all commands
+ *   <li>max_threads:           maximum number of threads that execute offloaded commands (default: 8)
+ *   <li>queue_size:            maximum number of offloaded commands waiting for a thread (default: 100)
+ *   </ul>
  * <li>dependencies:
  *   <ul>
  *   <li>endpoint:              override for HTTP Endpoint dependency
@@ -81,6 +124,20 @@ public class CommandableHttpService extends RestService {
     private ICommandable _controller;
     protected CommandSet _commandSet;
     protected boolean _swaggerAuto = true;
+    protected boolean _batchEnable = false;
+    protected String _batchRoute = "batch";
+    protected int _batchMaxSize = 100;
+    protected int _batchMaxThreads = 4;
+    protected long _asyncTimeout = 30000;
+    protected Set<String> _offloadCommands = Set.of();
+    protected int _offloadMaxThreads = 8;
+    protected int _offloadQueueSize = 100;
+    private Map<String, CommandDispatch> _dispatches = Map.of();
+    private ThreadPoolExecutor _batchExecutor;
+    private ThreadPoolExecutor _offloadExecutor;
+
+    private static final JavaType BATCH_TYPE = TypeFactory.defaultInstance()
+            .constructCollectionType(List.class, BatchCommand.class);
 
     /**
      * Creates a new instance of the service.
@@ -104,6 +161,7 @@ public class CommandableHttpService extends RestService {
         super.setReferences(references);
 
         _controller = (ICommandable) _dependencyResolver.getOneRequired("controller");
+        checkBatchRoute();
     }
 
     /**
@@ -115,6 +173,93 @@ public class CommandableHttpService extends RestService {
         super.configure(config);
 
         this._swaggerAuto = config.getAsBooleanWithDefault("swagger.auto", this._swaggerAuto);
+        this._batchEnable = config.getAsBooleanWithDefault("batch.enable", this._batchEnable);
+        this._batchRoute = config.getAsStringWithDefault("batch.route", this._batchRoute);
+        this._batchMaxSize = config.getAsIntegerWithDefault("batch.max_size", this._batchMaxSize);
+        this._batchMaxThreads = Math.max(1, config.getAsIntegerWithDefault("batch.max_threads", this._batchMaxThreads));
+        this._asyncTimeout = config.getAsLongWithDefault("async.timeout", this._asyncTimeout);
+        this._offloadMaxThreads = Math.max(1, config.getAsIntegerWithDefault("async.max_threads", this._offloadMaxThreads));
+        this._offloadQueueSize = Math.max(0, config.getAsIntegerWithDefault("async.queue_size", this._offloadQueueSize));
+
+        var offload = config.getAsNullableString("async.offload");
+        if (offload != null) {
+            var commands = new HashSet<String>();
+            for (var name : offload.split(",")) {
+                if (!name.isBlank())
+                    commands.add(name.trim());
+            }
+            this._offloadCommands = commands;
+        }
+
+        checkBatchRoute();
+    }
+
+    private void checkBatchRoute() throws ConfigException {
+        if (!_batchEnable || _controller == null)
+            return;
+
+        // The batch route would hide the command route
+        var route = _batchRoute.startsWith("/") ? _batchRoute.substring(1) : _batchRoute;
+        if (_controller.getCommandSet().findCommand(route) != null) {
+            throw (ConfigException) new ConfigException(null, "BATCH_ROUTE_CONFLICT",
+                    "Command " + route + " conflicts with the batch route")
+                    .withDetails("command", route);
+        }
+    }
+
+    /**
+     * Closes component and frees used resources.
+     *
+     * @param correlationId (optional) transaction id to trace execution through
+     *                      call chain.
+     * @throws ApplicationException when error occured.
+     */
+    @Override
+    public void close(String correlationId) throws ApplicationException {
+        super.close(correlationId);
+
+        synchronized (this) {
+            if (_batchExecutor != null) {
+                _batchExecutor.shutdown();
+                _batchExecutor = null;
+            }
+            if (_offloadExecutor != null) {
+                _offloadExecutor.shutdownNow();
+                _offloadExecutor = null;
+            }
+        }
+    }
+
+    private synchronized ExecutorService getOffloadExecutor() {
+        if (_offloadExecutor == null) {
+            var threadCount = new AtomicInteger();
+            var name = "http-command-" + _baseRoute + "-";
+            BlockingQueue<Runnable> queue = _offloadQueueSize > 0
+                    ? new ArrayBlockingQueue<>(_offloadQueueSize) : new SynchronousQueue<>();
+            _offloadExecutor = new ThreadPoolExecutor(_offloadMaxThreads, _offloadMaxThreads,
+                    60, TimeUnit.SECONDS, queue, runnable -> {
+                var thread = new Thread(runnable, name + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            _offloadExecutor.allowCoreThreadTimeOut(true);
+        }
+        return _offloadExecutor;
+    }
+
+    private synchronized ExecutorService getBatchExecutor() {
+        if (_batchExecutor == null) {
+            var threadCount = new AtomicInteger();
+            var name = "http-batch-" + _baseRoute + "-";
+            _batchExecutor = new ThreadPoolExecutor(_batchMaxThreads, _batchMaxThreads,
+                    60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                var thread = new Thread(runnable, name + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            _batchExecutor.allowCoreThreadTimeOut(true);
+        }
+        return _batchExecutor;
     }
 
     /**
@@ -128,32 +273,45 @@ public class CommandableHttpService extends RestService {
         _commandSet = _controller.getCommandSet();
         var commands = _commandSet.getCommands();
 
+        var dispatches = new HashMap<String, CommandDispatch>();
         for (ICommand command : commands) {
+            var dispatch = new CommandDispatch(command, new InstrumentNames(_baseRoute + '.' + command.getName(), "exec"));
+            dispatches.put(command.getName(), dispatch);
+
             registerRoute(HttpMethod.POST, command.getName(), new Inflector<ContainerRequestContext, Response>() {
                 @Override
                 public Response apply(ContainerRequestContext request) {
-                    return executeCommand(command, request);
+                    return executeCommand(dispatch, request);
+                }
+            });
+        }
+        _dispatches = dispatches;
+
+        if (this._batchEnable) {
+            registerRoute(HttpMethod.POST, this._batchRoute, new Inflector<ContainerRequestContext, Response>() {
+                @Override
+                public Response apply(ContainerRequestContext request) {
+                    return executeBatch(request);
                 }
             });
         }
 
         if (this._swaggerAuto) {
+            // The document is generated on the first request to keep startup fast
             var swaggerConfig = this._config.getSection("swagger");
             var doc = new CommandableSwaggerDocument(this._baseRoute, swaggerConfig, commands);
-            this.registerOpenApiSpec(doc.toString());
+            this.registerOpenApiSpec(doc::toString);
         }
     }
 
-    private Response executeCommand(ICommand command, ContainerRequestContext request) {
+    private Response executeCommand(CommandDispatch dispatch, ContainerRequestContext request) {
         var correlationId = this.getCorrelationId(request);
-        InstrumentTiming timing = instrument(correlationId, _baseRoute + '.' + command.getName());
+        InstrumentTiming timing = instrument(correlationId, dispatch.names);
 
         try {
-            String json = getBodyAsString(request);
+            Parameters parameters = getBodyAsParameters(request);
 
-            Parameters parameters = json == null ? new Parameters() : Parameters.fromJson(json);
-
-            Object result = command.execute(correlationId, parameters);
+            Object result = executeAsync(dispatch.command, correlationId, parameters);
             return sendResult(result);
         } catch (Exception ex) {
             timing.endFailure(ex);
@@ -163,4 +321,140 @@ public class CommandableHttpService extends RestService {
         }
     }
 
+    private Response executeBatch(ContainerRequestContext request) {
+        var correlationId = this.getCorrelationId(request);
+
+        try {
+            var codec = getRequestCodec(request);
+            if (codec == null)
+                codec = HttpCodecs.getDefault();
+
+            List<BatchCommand> entries = codec.read(BATCH_TYPE, request.getEntityStream());
+            if (entries == null)
+                entries = List.of();
+
+            if (entries.size() > _batchMaxSize) {
+                throw new BadRequestException(correlationId, "BATCH_TOO_LARGE",
+                        "Batch contains " + entries.size() + " commands, maximum is " + _batchMaxSize)
+                        .withDetails("size", entries.size());
+            }
+
+            var results = new ArrayList<BatchCommandResult>(entries.size());
+            if (BooleanConverter.toBoolean(getQueryParameter(request, "parallel")) && entries.size() > 1) {
+                var executor = getBatchExecutor();
+                var futures = new ArrayList<CompletableFuture<BatchCommandResult>>(entries.size());
+                for (var entry : entries) {
+                    CompletableFuture<BatchCommandResult> future;
+                    try {
+                        future = CompletableFuture.supplyAsync(() -> executeBatchEntry(entry, correlationId), executor);
+                    } catch (RejectedExecutionException ex) {
+                        // All batch threads are busy, so the request thread takes the entry
+                        future = CompletableFuture.completedFuture(executeBatchEntry(entry, correlationId));
+                    }
+                    futures.add(future);
+                }
+                for (var future : futures)
+                    results.add(future.join());
+            } else {
+                for (var entry : entries)
+                    results.add(executeBatchEntry(entry, correlationId));
+            }
+
+            return sendResult(results);
+        } catch (Exception ex) {
+            return sendError(ex);
+        }
+    }
+
+    /**
+     * Executes a command and waits for its asynchronous result.
+     * Offloaded commands are executed on the bounded offload executor and interrupted on timeout.
+     * <p>
+     * The JDK HTTP container does not support suspended responses,
+     * so the calling thread is blocked until the result is ready or the configured timeout expires.
+     *
+     * @param command       the command to execute.
+     * @param correlationId (optional) transaction id to trace execution through call chain.
+     * @param parameters    the command parameters.
+     * @return the completed result.
+     * @throws Exception when execution fails or times out.
+     */
+    protected Object executeAsync(ICommand command, String correlationId, Parameters parameters) throws Exception {
+        Future<?> future;
+        if (_offloadCommands.contains(command.getName()) || _offloadCommands.contains("*")) {
+            try {
+                // FutureTask interrupts the command when it is cancelled on timeout
+                Callable<Object> task = () -> command.execute(correlationId, parameters);
+                future = getOffloadExecutor().submit(task);
+            } catch (RejectedExecutionException ex) {
+                var error = new InvocationException(correlationId, "COMMAND_REJECTED",
+                        "Command " + command.getName() + " was rejected, all command threads are busy")
+                        .withDetails("command", command.getName());
+                error.setStatus(503);
+                throw error;
+            }
+        } else {
+            var result = command.execute(correlationId, parameters);
+            if (!(result instanceof CompletionStage))
+                return result;
+            future = ((CompletionStage<?>) result).toCompletableFuture();
+        }
+
+        try {
+            return _asyncTimeout > 0
+                    ? future.get(_asyncTimeout, TimeUnit.MILLISECONDS)
+                    : future.get();
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            var error = new InvocationException(correlationId, "COMMAND_TIMEOUT",
+                    "Command " + command.getName() + " did not complete in " + _asyncTimeout + " ms")
+                    .withDetails("command", command.getName());
+            error.setStatus(504);
+            throw error;
+        } catch (ExecutionException ex) {
+            var cause = ex.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null)
+                cause = cause.getCause();
+            throw cause instanceof Exception ? (Exception) cause : ex;
+        }
+    }
+
+    private BatchCommandResult executeBatchEntry(BatchCommand entry, String correlationId) {
+        var name = entry.getCommand();
+        var dispatch = name != null ? _dispatches.get(name) : null;
+
+        if (dispatch == null) {
+            var error = new NotFoundException(correlationId, "COMMAND_NOT_FOUND", "Command " + name + " was not found")
+                    .withDetails("command", name);
+            return new BatchCommandResult(name, null, ErrorDescriptionFactory.create(error));
+        }
+
+        InstrumentTiming timing = instrument(correlationId, dispatch.names);
+        try {
+            var parameters = entry.getArgs() != null ? new Parameters(entry.getArgs()) : new Parameters();
+            var result = executeAsync(dispatch.command, correlationId, parameters);
+            return new BatchCommandResult(name, result, null);
+        } catch (Exception ex) {
+            timing.endFailure(ex);
+            var error = ex instanceof ApplicationException
+                    ? ErrorDescriptionFactory.create((ApplicationException) ex)
+                    : ErrorDescriptionFactory.create(ex, correlationId);
+            return new BatchCommandResult(name, null, error);
+        } finally {
+            timing.endTiming();
+        }
+    }
+
+    /**
+     * Command with its instrumentation names resolved at registration.
+     */
+    private static class CommandDispatch {
+        final ICommand command;
+        final InstrumentNames names;
+
+        CommandDispatch(ICommand command, InstrumentNames names) {
+            this.command = command;
+            this.names = names;
+        }
+    }
 }
@@ -6,15 +6,25 @@ import org.pipservices3.commons.commands.ICommand;
 import org.pipservices3.commons.config.ConfigParams;
 import org.pipservices3.commons.convert.TypeCode;
 import org.pipservices3.commons.convert.TypeConverter;
-import org.pipservices3.commons.reflect.PropertyReflector;
 import org.pipservices3.commons.validate.ArraySchema;
 import org.pipservices3.commons.validate.ObjectSchema;
 
+import java.lang.reflect.Field;
 import java.util.*;
 
+/**
+ * OpenAPI document generated for commands of a commandable service.
+ * <p>
+ * The YAML is written in a single pass into a buffer. The generated document is cached
+ * and regenerated only when the list of commands or the document fields change.
+ * Cached documents are returned without locking, only regeneration is synchronized.
+ */
 public class CommandableSwaggerDocument {
 
-    private String content = "";
+    private static final Field _schemaField = getSchemaField();
+
+    private StringBuilder content = new StringBuilder();
+    private volatile CachedDocument _cached;
 
     public List<ICommand> commands;
 
@@ -45,8 +55,42 @@ public class CommandableSwaggerDocument {
         this.infoDescription = config.getAsStringWithDefault("description", "Commandable microservice");
     }
 
+    private static Field getSchemaField() {
+        try {
+            // Hack to get private field
+            var field = Command.class.getDeclaredField("_schema");
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private int getSignature() {
+        var signature = Objects.hash(version, baseRoute, infoTitle, infoDescription, infoVersion,
+                infoTermsOfService, infoContactName, infoContactUrl, infoContactEmail,
+                infoLicenseName, infoLicenseUrl);
+        signature = 31 * signature + this.commands.size();
+        for (var command : this.commands)
+            signature = 31 * signature + System.identityHashCode(command);
+        return signature;
+    }
+
     public String toString() {
-        this.content = "";
+        var signature = this.getSignature();
+        var cached = this._cached;
+        if (cached != null && cached.signature == signature)
+            return cached.content;
+
+        return this.generate(signature);
+    }
+
+    private synchronized String generate(int signature) {
+        var cached = this._cached;
+        if (cached != null && cached.signature == signature)
+            return cached.content;
+
+        this.content = new StringBuilder(1024 + this.commands.size() * 512);
         Map<String, Object> data = new LinkedHashMap<>();
 
         data.put("openapi", version);
@@ -70,11 +114,14 @@ public class CommandableSwaggerDocument {
 
         this.writeData(0, data);
 
-        return this.content;
+        var result = this.content.toString();
+        this._cached = new CachedDocument(signature, result);
+        this.content = new StringBuilder();
+        return result;
     }
 
     private Map<String, Object> createPathsData() {
-        Map<String, Object> data = new HashMap<>();
+        Map<String, Object> data = new LinkedHashMap<>();
 
         for (var command : this.commands) {
             var path = this.baseRoute + "/" + command.getName();
@@ -109,13 +156,12 @@ public class CommandableSwaggerDocument {
     private Map<String, Object> createSchemaData(ICommand command) {
         ObjectSchema schema = null;
 
-        try {
-            // Hack to get private field
-            var privateField = Command.class.getDeclaredField("_schema");
-            privateField.setAccessible(true);
-            schema = (ObjectSchema) privateField.get(command);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            // ignore
+        if (_schemaField != null && command instanceof Command) {
+            try {
+                schema = (ObjectSchema) _schemaField.get(command);
+            } catch (IllegalAccessException | ClassCastException e) {
+                // ignore
+            }
         }
 
         if (schema == null || schema.getProperties() == null)
@@ -171,7 +217,7 @@ public class CommandableSwaggerDocument {
         } else {
             TypeCode typeCode;
 
-            if (Arrays.stream(TypeCode.values()).toList().contains(propertyType)) {
+            if (propertyType instanceof TypeCode) {
                 typeCode = (TypeCode) propertyType;
             } else {
                 typeCode = TypeConverter.toTypeCode(propertyType);
@@ -245,11 +291,8 @@ public class CommandableSwaggerDocument {
                     }
                 }
             } else if (value instanceof Map) {
-                var props = PropertyReflector.getProperties(value).entrySet().stream().filter(Objects::nonNull);
-                if (props.toArray().length >= 0) {
-                    this.writeName(indent, key);
-                    this.writeData(indent + 1, (Map<String, Object>) value);
-                }
+                this.writeName(indent, key);
+                this.writeData(indent + 1, (Map<String, Object>) value);
             } else {
                 this.writeAsObject(indent, key, value);
             }
@@ -257,38 +300,52 @@ public class CommandableSwaggerDocument {
     }
 
     protected void writeName(int indent, String name) {
-        var spaces = this.getSpaces(indent);
-        this.content += spaces + name + ":\n";
+        this.writeSpaces(indent);
+        this.content.append(name).append(":\n");
     }
 
     protected void writeArrayItem(int indent, String name, Boolean isObjectItem) {
         isObjectItem = isObjectItem != null ? isObjectItem : false;
-        var spaces = this.getSpaces(indent);
+        this.writeSpaces(indent);
 
-        this.content += spaces + "- ";
+        this.content.append("- ").append(name);
 
         if (isObjectItem)
-            this.content += name + ":\n";
+            this.content.append(":\n");
         else
-            this.content += name + "\n";
+            this.content.append('\n');
     }
 
     protected void writeAsObject(int indent, String name, Object value) {
         if (value == null) return;
 
-        var spaces = this.getSpaces(indent);
-        this.content += spaces + name + ": " + value + "\n";
+        this.writeSpaces(indent);
+        this.content.append(name).append(": ").append(value).append('\n');
     }
 
     protected void writeAsString(int indent, String name, String value) {
         if (value == null) return;
 
-        var spaces = this.getSpaces(indent);
+        this.writeSpaces(indent);
+        this.content.append(name).append(": '").append(value).append("'\n");
+    }
 
-        this.content += spaces + name + ": '" + value + "'\n";
+    private void writeSpaces(int indent) {
+        for (var index = 0; index < indent; index++)
+            this.content.append("  ");
     }
 
     protected String getSpaces(int length) {
         return " ".repeat(Math.max(0, length * 2));
     }
+
+    private static class CachedDocument {
+        final int signature;
+        final String content;
+
+        CachedDocument(int signature, String content) {
+            this.signature = signature;
+            this.content = content;
+        }
+    }
 }
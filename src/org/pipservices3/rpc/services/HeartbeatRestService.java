@@ -1,13 +1,20 @@
 package org.pipservices3.rpc.services;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.process.Inflector;
 import org.pipservices3.commons.config.ConfigParams;
 import org.pipservices3.commons.convert.StringConverter;
 import org.pipservices3.commons.errors.ConfigException;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 /**
@@ -23,9 +30,10 @@ import java.time.ZonedDateTime;
  * <ul>
  * <li>base_route:              base route for remote URI (default: "")
  * <li>route:                   route to heartbeat operation (default: "heartbeat")
+ * <li>fast_path:               serves heartbeat by a raw server handler bypassing Jersey, filters and interceptors (default: false)
  * <li>dependencies:
  *   <ul>
- *   <li>endpoint:              override for HTTP Endpoint dependency
+ *   <li>endpoint:              override for HTTP Endpoint dependency, set to "*:endpoint:admin:*:1.0" to serve it on {@link AdminHttpEndpoint}
  *   </ul>
  * <li>connection(s):           
  *   <ul>
@@ -64,6 +72,7 @@ import java.time.ZonedDateTime;
  */
 public class HeartbeatRestService extends RestService {
 	private String _route = "heartbeat";
+	private boolean _fastPath = false;
 
 	/**
 	 * Creates a new instance of this service.
@@ -82,12 +91,18 @@ public class HeartbeatRestService extends RestService {
 		super.configure(config);
 
 		_route = config.getAsStringWithDefault("route", _route);
+		_fastPath = config.getAsBooleanWithDefault("fast_path", _fastPath);
 	}
 
 	/**
 	 * Registers all service routes in HTTP endpoint.
 	 */
 	public void register() {
+		if (_fastPath) {
+			registerRawRoute(HttpMethod.GET, _route, new HeartbeatHandler());
+			return;
+		}
+
 		registerRoute(HttpMethod.GET, _route, new Inflector<ContainerRequestContext, Response>() {
 			@Override
 			public Response apply(ContainerRequestContext request) {
@@ -106,4 +121,41 @@ public class HeartbeatRestService extends RestService {
 		String result = StringConverter.toString(ZonedDateTime.now());
 		return sendResult(result);
 	}
+
+	/**
+	 * Raw heartbeat handler that writes a pre-encoded timestamp.
+	 * The encoded value is reused by all requests within the same millisecond.
+	 */
+	private static class HeartbeatHandler implements HttpHandler {
+		private static class EncodedTime {
+			final long time;
+			final byte[] content;
+
+			EncodedTime(long time) {
+				this.time = time;
+				ZonedDateTime value = ZonedDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+				this.content = StringConverter.toString(value).getBytes(StandardCharsets.UTF_8);
+			}
+		}
+
+		private volatile EncodedTime _current = new EncodedTime(System.currentTimeMillis());
+
+		@Override
+		public void handle(HttpExchange exchange) throws IOException {
+			long now = System.currentTimeMillis();
+			EncodedTime current = _current;
+			if (current.time != now) {
+				current = new EncodedTime(now);
+				_current = current;
+			}
+
+			try {
+				exchange.getResponseHeaders().set("Content-Type", MediaType.APPLICATION_JSON);
+				exchange.sendResponseHeaders(200, current.content.length);
+				exchange.getResponseBody().write(current.content);
+			} finally {
+				exchange.close();
+			}
+		}
+	}
 }
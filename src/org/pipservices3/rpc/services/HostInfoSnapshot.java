@@ -0,0 +1,135 @@
+package org.pipservices3.rpc.services;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cached facts about the local host: host name and network addresses.
+ * <p>
+ * Collecting them requires system calls and may block on DNS resolution,
+ * so the facts are collected once and then served from memory.
+ * When the snapshot gets older than the refresh interval, it is still returned
+ * to the caller while a new one is collected in a background thread.
+ */
+class HostInfoSnapshot {
+    private static final HostInfoSnapshot _instance = new HostInfoSnapshot(60000);
+
+    private final long _refreshInterval;
+    private final AtomicBoolean _refreshing = new AtomicBoolean(false);
+    private volatile Facts _facts;
+
+    private static class Facts {
+        final String hostName;
+        final List<String> addresses;
+        final long time;
+
+        Facts(String hostName, List<String> addresses, long time) {
+            this.hostName = hostName;
+            this.addresses = addresses;
+            this.time = time;
+        }
+    }
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param refreshInterval interval in milliseconds to refresh the host facts.
+     */
+    HostInfoSnapshot(long refreshInterval) {
+        _refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Gets the snapshot shared by all services in the process.
+     *
+     * @return the shared snapshot.
+     */
+    static HostInfoSnapshot getInstance() {
+        return _instance;
+    }
+
+    /**
+     * Gets the local host name.
+     *
+     * @return the host name.
+     */
+    String getHostName() {
+        return getFacts().hostName;
+    }
+
+    /**
+     * Gets the IPv4 addresses of active non-loopback network interfaces.
+     *
+     * @return an unmodifiable list of addresses.
+     */
+    List<String> getAddresses() {
+        return getFacts().addresses;
+    }
+
+    private Facts getFacts() {
+        Facts facts = _facts;
+
+        if (facts == null) {
+            synchronized (this) {
+                if (_facts == null)
+                    _facts = collect();
+                return _facts;
+            }
+        }
+
+        if (System.currentTimeMillis() - facts.time >= _refreshInterval && _refreshing.compareAndSet(false, true)) {
+            var thread = new Thread(() -> {
+                try {
+                    _facts = collect();
+                } finally {
+                    _refreshing.set(false);
+                }
+            }, "host-info-refresh");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        return facts;
+    }
+
+    private static Facts collect() {
+        String hostName;
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (Exception ex) {
+            hostName = "localhost";
+        }
+
+        List<String> addresses = new ArrayList<>();
+        try {
+            Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
+            while (interfaces != null && interfaces.hasMoreElements()) {
+                NetworkInterface iface = interfaces.nextElement();
+                // filters out 127.0.0.1 and inactive interfaces
+                if (iface.isLoopback() || !iface.isUp())
+                    continue;
+
+                Enumeration<InetAddress> inetAddresses = iface.getInetAddresses();
+                while (inetAddresses.hasMoreElements()) {
+                    InetAddress addr = inetAddresses.nextElement();
+
+                    if (addr instanceof Inet6Address)
+                        continue;
+
+                    addresses.add(addr.getHostAddress());
+                }
+            }
+        } catch (SocketException ex) {
+            // Keep addresses collected so far
+        }
+
+        return new Facts(hostName, Collections.unmodifiableList(addresses), System.currentTimeMillis());
+    }
+}
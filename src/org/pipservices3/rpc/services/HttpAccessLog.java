@@ -0,0 +1,340 @@
+package org.pipservices3.rpc.services;
+
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.config.IConfigurable;
+import org.pipservices3.commons.errors.ConfigException;
+import org.pipservices3.commons.errors.FileException;
+import org.pipservices3.commons.refer.IReferenceable;
+import org.pipservices3.commons.refer.IReferences;
+import org.pipservices3.commons.refer.ReferenceException;
+import org.pipservices3.components.count.CompositeCounters;
+import org.pipservices3.components.log.CompositeLogger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous access log for HTTP endpoints.
+ * <p>
+ * Request threads only copy a few fields into a preallocated lock-free ring buffer.
+ * Formatting and writing of the records is done by a single background writer
+ * that sends them into a file or into the referenced loggers.
+ * <p>
+ * ### Configuration parameters ###
+ * <ul>
+ * <li>options.access_log:
+ *   <ul>
+ *   <li>enabled:               turns the access log on and off (default: false)
+ *   <li>target:                where to write records: "logger" or "file" (default: "logger")
+ *   <li>file:                  path to the log file when target is "file"
+ *   <li>buffer_size:           number of records in the ring buffer, rounded up to a power of two (default: 8192)
+ *   <li>sample_rate:           fraction of successful requests to record, errors are always recorded (default: 1)
+ *   <li>drop_policy:           what to do when the buffer is full: "drop" or "wait" (default: "drop")
+ *   </ul>
+ * </ul>
+ * <p>
+ * ### References ###
+ * <ul>
+ * <li>*:logger:*:*:1.0         (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/log/ILogger.html">ILogger</a> components to write access records
+ * <li>*:counters:*:*:1.0       (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/count/ICounters.html">ICounters</a> components to report dropped records
+ * </ul>
+ *
+ * @see HttpEndpoint
+ */
+public class HttpAccessLog implements IConfigurable, IReferenceable {
+
+    private final static long IDLE_WAIT_NANOS = 10_000_000L;
+
+    private final CompositeLogger _logger = new CompositeLogger();
+    private final CompositeCounters _counters = new CompositeCounters();
+
+    private boolean _enabled = false;
+    private String _target = "logger";
+    private String _file;
+    private int _bufferSize = 8192;
+    private double _sampleRate = 1;
+    private boolean _dropOnOverflow = true;
+
+    private Slot[] _slots;
+    private int _mask;
+    private final AtomicLong _producerSequence = new AtomicLong();
+    private volatile long _consumerSequence;
+    private final LongAdder _dropped = new LongAdder();
+
+    private volatile boolean _opened = false;
+    private Thread _writerThread;
+    private Writer _fileWriter;
+
+    /**
+     * A preallocated ring buffer slot. Fields are written by a request thread
+     * and become visible to the writer when the sequence is published.
+     */
+    private static class Slot {
+        volatile long published = -1;
+        long timestamp;
+        String method;
+        String route;
+        int status;
+        long bytes;
+        long latency;
+        String correlationId;
+    }
+
+    /**
+     * Configures component by passing configuration parameters.
+     *
+     * @param config configuration parameters to be set.
+     * @throws ConfigException when configuration is wrong.
+     */
+    @Override
+    public void configure(ConfigParams config) throws ConfigException {
+        _enabled = config.getAsBooleanWithDefault("options.access_log.enabled", _enabled);
+        _target = config.getAsStringWithDefault("options.access_log.target", _target);
+        _file = config.getAsStringWithDefault("options.access_log.file", _file);
+        _bufferSize = config.getAsIntegerWithDefault("options.access_log.buffer_size", _bufferSize);
+        _sampleRate = config.getAsDoubleWithDefault("options.access_log.sample_rate", _sampleRate);
+
+        var dropPolicy = config.getAsStringWithDefault("options.access_log.drop_policy", _dropOnOverflow ? "drop" : "wait");
+        if (!dropPolicy.equals("drop") && !dropPolicy.equals("wait"))
+            throw (ConfigException) new ConfigException(null, "WRONG_DROP_POLICY", "Access log drop policy must be drop or wait")
+                    .withDetails("drop_policy", dropPolicy);
+        _dropOnOverflow = dropPolicy.equals("drop");
+
+        if (_enabled && _target.equals("file") && _file == null)
+            throw new ConfigException(null, "NO_FILE", "Access log file is not set");
+    }
+
+    /**
+     * Sets references to dependent components.
+     *
+     * @param references references to locate the component dependencies.
+     * @throws ReferenceException when no found references.
+     */
+    @Override
+    public void setReferences(IReferences references) throws ReferenceException {
+        _logger.setReferences(references);
+        _counters.setReferences(references);
+    }
+
+    /**
+     * Checks if the access log is turned on in configuration.
+     *
+     * @return true if access records shall be collected.
+     */
+    public boolean isEnabled() {
+        return _enabled;
+    }
+
+    /**
+     * Checks if the access log is opened and accepts records.
+     *
+     * @return true if the background writer is running.
+     */
+    public boolean isOpen() {
+        return _opened;
+    }
+
+    /**
+     * Gets the number of records dropped because the ring buffer was full.
+     *
+     * @return the number of dropped records since the log was opened.
+     */
+    public long getDroppedCount() {
+        return _dropped.sum();
+    }
+
+    /**
+     * Allocates the ring buffer and starts the background writer.
+     *
+     * @param correlationId (optional) transaction id to trace execution through call chain.
+     * @throws FileException when the log file cannot be opened.
+     */
+    public void open(String correlationId) throws FileException {
+        if (_opened)
+            return;
+
+        int size = Integer.highestOneBit(Math.max(_bufferSize, 2) - 1) << 1;
+        _slots = new Slot[size];
+        for (int index = 0; index < size; index++)
+            _slots[index] = new Slot();
+        _mask = size - 1;
+        _producerSequence.set(0);
+        _consumerSequence = 0;
+        _dropped.reset();
+
+        if (_target.equals("file")) {
+            try {
+                _fileWriter = Files.newBufferedWriter(Path.of(_file), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException ex) {
+                throw (FileException) new FileException(correlationId, "CANNOT_OPEN", "Cannot open access log file")
+                        .withDetails("file", _file).wrap(ex);
+            }
+        }
+
+        _opened = true;
+        _writerThread = new Thread(this::drain, "http-access-log");
+        _writerThread.setDaemon(true);
+        _writerThread.start();
+    }
+
+    /**
+     * Stops the background writer after it writes all pending records.
+     *
+     * @param correlationId (optional) transaction id to trace execution through call chain.
+     */
+    public void close(String correlationId) {
+        if (!_opened)
+            return;
+
+        _opened = false;
+        LockSupport.unpark(_writerThread);
+        try {
+            _writerThread.join(5000);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        _writerThread = null;
+
+        if (_fileWriter != null) {
+            try {
+                _fileWriter.close();
+            } catch (IOException ex) {
+                _logger.warn(correlationId, "Failed while closing access log file: %s", ex);
+            }
+            _fileWriter = null;
+        }
+    }
+
+    /**
+     * Puts a request record into the ring buffer. The call never formats or writes
+     * anything on the calling thread.
+     *
+     * @param method        HTTP method of the request.
+     * @param route         the matched route template or the request path.
+     * @param status        HTTP status code of the response.
+     * @param bytes         number of bytes in the response body.
+     * @param latency       request processing time in nanoseconds.
+     * @param correlationId (optional) transaction id of the request.
+     * @return true if the record was accepted and false if it was sampled out or dropped.
+     */
+    public boolean append(String method, String route, int status, long bytes, long latency, String correlationId) {
+        if (!_opened)
+            return false;
+
+        if (_sampleRate < 1 && status < 500 && ThreadLocalRandom.current().nextDouble() >= _sampleRate)
+            return false;
+
+        long sequence;
+        while (true) {
+            sequence = _producerSequence.get();
+            if (sequence - _consumerSequence >= _slots.length) {
+                if (_dropOnOverflow || !_opened) {
+                    _dropped.increment();
+                    return false;
+                }
+                Thread.onSpinWait();
+                continue;
+            }
+            if (_producerSequence.compareAndSet(sequence, sequence + 1))
+                break;
+        }
+
+        Slot slot = _slots[(int) (sequence & _mask)];
+        slot.timestamp = System.currentTimeMillis();
+        slot.method = method;
+        slot.route = route;
+        slot.status = status;
+        slot.bytes = bytes;
+        slot.latency = latency;
+        slot.correlationId = correlationId;
+        slot.published = sequence;
+
+        return true;
+    }
+
+    private void drain() {
+        var line = new StringBuilder(256);
+        long reportedDrops = 0;
+        boolean pending = false;
+
+        while (true) {
+            long sequence = _consumerSequence;
+            Slot slot = _slots[(int) (sequence & _mask)];
+
+            if (slot.published != sequence) {
+                if (pending) {
+                    flush();
+                    pending = false;
+                }
+
+                long drops = _dropped.sum();
+                if (drops > reportedDrops) {
+                    _counters.increment("http.access_log.dropped", (int) (drops - reportedDrops));
+                    reportedDrops = drops;
+                }
+
+                if (!_opened && sequence == _producerSequence.get())
+                    break;
+
+                LockSupport.parkNanos(IDLE_WAIT_NANOS);
+                continue;
+            }
+
+            line.setLength(0);
+            format(line, slot);
+            String correlationId = slot.correlationId;
+
+            // Release the slot before the (potentially slow) write
+            slot.method = null;
+            slot.route = null;
+            slot.correlationId = null;
+            _consumerSequence = sequence + 1;
+
+            write(correlationId, line);
+            pending = true;
+        }
+    }
+
+    private void format(StringBuilder line, Slot slot) {
+        line.append(Instant.ofEpochMilli(slot.timestamp))
+                .append(' ').append(slot.method)
+                .append(' ').append(slot.route)
+                .append(' ').append(slot.status)
+                .append(' ').append(slot.bytes)
+                .append(' ').append(slot.latency / 1000 / 1000.0).append("ms")
+                .append(' ').append(slot.correlationId != null ? slot.correlationId : "-");
+    }
+
+    private void write(String correlationId, StringBuilder line) {
+        if (_fileWriter != null) {
+            try {
+                _fileWriter.append(line).append('\n');
+            } catch (IOException ex) {
+                _logger.error(correlationId, ex, "Failed to write access log record");
+            }
+        } else {
+            _logger.info(correlationId, "%s", line);
+        }
+    }
+
+    private void flush() {
+        if (_fileWriter == null)
+            return;
+
+        try {
+            _fileWriter.flush();
+        } catch (IOException ex) {
+            _logger.error(null, ex, "Failed to flush access log file");
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package org.pipservices3.rpc.services;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import jakarta.ws.rs.core.MediaType;
+import org.pipservices3.commons.run.Parameters;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of HTTP body codecs used in content negotiation.
+ * <p>
+ * JSON codec is always registered and used by default. Binary codecs are registered
+ * automatically when the matching Jackson dataformat module is present in the classpath:
+ * <ul>
+ * <li>application/cbor               - jackson-dataformat-cbor
+ * <li>application/x-jackson-smile    - jackson-dataformat-smile
+ * <li>application/x-msgpack          - jackson-dataformat-msgpack
+ * </ul>
+ * <p>
+ * Other codecs can be added by {@link #register(IHttpCodec)}.
+ *
+ * @see IHttpCodec
+ * @see JacksonHttpCodec
+ */
+public class HttpCodecs {
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final String APPLICATION_MSGPACK = "application/x-msgpack";
+
+    private static final Map<String, IHttpCodec> _codecs = new ConcurrentHashMap<>();
+    private static final Map<String, String> _aliases = Map.of(
+            "json", MediaType.APPLICATION_JSON,
+            "cbor", APPLICATION_CBOR,
+            "smile", APPLICATION_SMILE,
+            "msgpack", APPLICATION_MSGPACK
+    );
+
+    static {
+        register(JacksonHttpCodec.getDefault());
+        registerFactory(APPLICATION_CBOR, "com.fasterxml.jackson.dataformat.cbor.CBORFactory");
+        registerFactory(APPLICATION_SMILE, "com.fasterxml.jackson.dataformat.smile.SmileFactory");
+        registerFactory(APPLICATION_MSGPACK, "org.msgpack.jackson.dataformat.MessagePackFactory");
+    }
+
+    private static void registerFactory(String mediaType, String factoryName) {
+        try {
+            var factory = (JsonFactory) Class.forName(factoryName).getDeclaredConstructor().newInstance();
+            register(new JacksonHttpCodec(mediaType, factory));
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            // The data format is not available
+        }
+    }
+
+    /**
+     * Registers a codec for its media type. It replaces a previously registered codec.
+     *
+     * @param codec the codec to register.
+     */
+    public static void register(IHttpCodec codec) {
+        _codecs.put(codec.getMediaType(), codec);
+    }
+
+    /**
+     * Gets the default JSON codec.
+     *
+     * @return the JSON codec.
+     */
+    public static IHttpCodec getDefault() {
+        return JacksonHttpCodec.getDefault();
+    }
+
+    /**
+     * Gets media types of all registered codecs.
+     *
+     * @return a list of media types.
+     */
+    public static List<String> getMediaTypes() {
+        return new ArrayList<>(_codecs.keySet());
+    }
+
+    /**
+     * Checks if only the default JSON codec is registered.
+     *
+     * @return true if there are no alternative codecs.
+     */
+    public static boolean isJsonOnly() {
+        return _codecs.size() == 1;
+    }
+
+    /**
+     * Finds a codec by a media type or a short name: "json", "cbor", "smile" or "msgpack".
+     * Media type parameters like charset are ignored.
+     *
+     * @param mediaType the media type or the short name.
+     * @return the found codec or null.
+     */
+    public static IHttpCodec get(String mediaType) {
+        if (mediaType == null)
+            return null;
+
+        var alias = _aliases.get(mediaType.toLowerCase());
+        if (alias != null)
+            mediaType = alias;
+
+        var index = mediaType.indexOf(';');
+        if (index >= 0)
+            mediaType = mediaType.substring(0, index);
+
+        return _codecs.get(mediaType.trim().toLowerCase());
+    }
+
+    /**
+     * Selects a codec for the value of "Accept" header.
+     * Media types are checked in the order of their quality factors.
+     *
+     * @param accept the value of "Accept" header.
+     * @return the selected codec or null when JSON or any type is acceptable or no codec matches.
+     */
+    public static IHttpCodec negotiate(String accept) {
+        if (accept == null || accept.isEmpty())
+            return null;
+
+        IHttpCodec result = null;
+        double resultQuality = -1;
+
+        for (var item : accept.split(",")) {
+            var parts = item.split(";");
+            var mediaType = parts[0].trim().toLowerCase();
+
+            double quality = 1;
+            for (var index = 1; index < parts.length; index++) {
+                var parameter = parts[index].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException ex) {
+                        quality = 0;
+                    }
+                }
+            }
+
+            if (quality <= resultQuality || quality <= 0)
+                continue;
+
+            IHttpCodec codec = mediaType.equals("*/*") || mediaType.equals("application/*")
+                    ? getDefault() : _codecs.get(mediaType);
+            if (codec != null) {
+                result = codec;
+                resultQuality = quality;
+            }
+        }
+
+        return result == getDefault() ? null : result;
+    }
+
+    /**
+     * Reads command parameters straight from a request body stream.
+     * The body is parsed by a streaming parser without building intermediate strings.
+     * An empty body results in empty parameters.
+     *
+     * @param codec the codec of the body, JSON if null.
+     * @param input the body stream.
+     * @return the parsed parameters.
+     * @throws IOException when reading or parsing fails.
+     */
+    public static Parameters readParameters(IHttpCodec codec, InputStream input) throws IOException {
+        if (codec == null)
+            codec = getDefault();
+        if (input == null)
+            return new Parameters();
+
+        var stream = new PushbackInputStream(input, 1);
+        int next = stream.read();
+        // Skip leading whitespaces to detect empty bodies in textual formats
+        while (next >= 0 && codec == getDefault() && Character.isWhitespace(next))
+            next = stream.read();
+        if (next < 0)
+            return new Parameters();
+        stream.unread(next);
+
+        Map<String, Object> map = codec.read(Map.class, stream);
+        return map != null ? new Parameters(map) : new Parameters();
+    }
+}
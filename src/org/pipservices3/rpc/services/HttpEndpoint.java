@@ -1,13 +1,18 @@
 package org.pipservices3.rpc.services;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.ext.Provider;
-import org.glassfish.jersey.jdkhttp.JdkHttpServerFactory;
+import org.glassfish.jersey.jdkhttp.JdkHttpHandlerContainer;
 import org.glassfish.jersey.process.Inflector;
+import org.glassfish.jersey.server.ContainerFactory;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.model.Resource;
 import org.pipservices3.commons.config.ConfigParams;
@@ -34,6 +39,7 @@ import javax.net.ssl.SSLContext;
 import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
@@ -44,6 +50,10 @@ import java.security.KeyStore;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateFactory;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -71,6 +81,23 @@ import java.util.stream.Collectors;
  *     <li>"credential.ssl_crt_file" - the SSL certificate in PEM
  *     <li>"credential.ssl_ca_file" - the certificate authorities (root cerfiticates) in PEM
  *     </ul>
+ * <li>options.max_threads - number of threads to handle requests, 0 to handle them on the server dispatcher thread (default: 0)
+ * <li>options.early_bind - binds the port before routes are initialized and responds with 503 until they are ready (default: false)
+ * <li>options.access_log - the asynchronous access log:
+ *     <ul>
+ *     <li>"options.access_log.enabled" - turns the access log on (default: false)
+ *     <li>"options.access_log.target" - "logger" or "file" (default: "logger")
+ *     <li>"options.access_log.file" - path to the log file
+ *     <li>"options.access_log.buffer_size" - size of the ring buffer (default: 8192)
+ *     <li>"options.access_log.sample_rate" - fraction of successful requests to record (default: 1)
+ *     <li>"options.access_log.drop_policy" - "drop" or "wait" when the buffer is full (default: "drop")
+ *     </ul>
+ * <li>options.slow_request - the slow request watchdog:
+ *     <ul>
+ *     <li>"options.slow_request.threshold" - request duration in milliseconds to log it as slow, 0 to disable (default: 0)
+ *     <li>"options.slow_request.samples" - number of handler stack samples to capture (default: 3)
+ *     <li>"options.slow_request.interval" - interval between stack samples in milliseconds (default: 1000)
+ *     </ul>
  * </ul>
  * <p>
  * ### References ###
@@ -102,6 +129,11 @@ import java.util.stream.Collectors;
  */
 public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
 
+    /**
+     * Request property that holds the route template matched by the request.
+     */
+    public static final String ROUTE_PROPERTY = "pip-services.route";
+
     private static final ConfigParams _defaultConfig = ConfigParams.fromTuples(
             "connection.protocol", "http",
             "connection.host", "0.0.0.0",
@@ -112,6 +144,8 @@ public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
             "credential.ssl_ca_file", null,
 
             "options.maintenance_enabled", false,
+            "options.early_bind", false,
+            "options.max_threads", 0,
             "options.request_max_size", 1024 * 1024,
             "options.connect_timeout", 60000,
             "options.connect_timeout", 60000,
@@ -121,14 +155,22 @@ public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
     protected CompositeLogger _logger = new CompositeLogger();
     protected CompositeCounters _counters = new CompositeCounters();
     protected DependencyResolver _dependencyResolver = new DependencyResolver(_defaultConfig);
+    protected HttpAccessLog _accessLog = new HttpAccessLog();
+    protected SlowRequestWatchdog _watchdog = new SlowRequestWatchdog();
 
     private String _url;
-    private HttpServer _server;
+    private volatile HttpServer _server;
+    private volatile RootHandler _rootHandler;
+    private final Map<String, RawRouteHandler> _rawRoutes = new ConcurrentHashMap<>();
+    private JdkHttpHandlerContainer _container;
     private ResourceConfig _resources;
     private final List<IRegisterable> _registrations = new ArrayList<>();
 
     private boolean _protocolUpgradeEnabled = false;
     private boolean _maintenanceEnabled = false;
+    private boolean _earlyBind = false;
+    private int _maxThreads = 0;
+    private ExecutorService _executor;
     private long _fileMaxSize = 200 * 1024 * 1024;
 
     private List<String> _allowedHeaders = List.of("correlation_id");
@@ -167,6 +209,8 @@ public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
         this._maintenanceEnabled = config.getAsBooleanWithDefault("options.maintenance_enabled", this._maintenanceEnabled);
         this._fileMaxSize = config.getAsLongWithDefault("options.file_max_size", this._fileMaxSize);
         this._protocolUpgradeEnabled = config.getAsBooleanWithDefault("options.protocol_upgrade_enabled", this._protocolUpgradeEnabled);
+        this._earlyBind = config.getAsBooleanWithDefault("options.early_bind", this._earlyBind);
+        this._maxThreads = config.getAsIntegerWithDefault("options.max_threads", this._maxThreads);
 
         var headers = config.getAsStringWithDefault("cors_headers", "").split(",");
 
@@ -190,7 +234,8 @@ public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
         }
 
         _dependencyResolver.configure(config);
-
+        _accessLog.configure(config);
+        _watchdog.configure(config);
     }
 
     /**
@@ -210,6 +255,8 @@ public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
         _counters.setReferences(references);
         _dependencyResolver.setReferences(references);
         _connectionResolver.setReferences(references);
+        _accessLog.setReferences(references);
+        _watchdog.setReferences(references);
     }
 
     /**
@@ -246,10 +293,26 @@ public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
         return _server != null;
     }
 
+    /**
+     * Checks if the endpoint completed initialization of its routes.
+     * Until then an early bound server responds with 503 status code.
+     *
+     * @return true if the endpoint is open and serves registered routes.
+     */
+    public boolean isReady() {
+        var handler = _rootHandler;
+        return handler != null && handler.isReady();
+    }
+
     /**
      * Opens a connection using the parameters resolved by the referenced connection
      * resolver and creates a REST server (service) using the set options and
      * parameters.
+     * <p>
+     * When "options.early_bind" is set, the port is bound first and the routes
+     * are initialized in background. Until they are ready all requests get 503 status code.
+     * When the initialization fails, the error is logged, the server is closed
+     * and {@link #isOpen()} returns false.
      *
      * @param correlationId (optional) transaction id to trace execution through
      *                      call chain.
@@ -260,6 +323,8 @@ public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
         if (isOpen())
             return;
 
+        long openStart = System.nanoTime();
+
         SSLContext sslContext = null;
         ConnectionParams connection = _connectionResolver.resolve(correlationId);
         String protocol = connection.getProtocolWithDefault("http");
@@ -268,9 +333,9 @@ public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
         URI uri = UriBuilder.fromUri(protocol + "://" + host).port(port).path("/").build();
         _url = uri.toString();
 
-        try {
-            _resources = new ResourceConfig();
+        long phaseStart = endStartupPhase(correlationId, "resolve", openStart);
 
+        try {
             if (Objects.equals(connection.getAsStringWithDefault("protocol", "http"), "https")) {
                 // TODO check using of certificates
                 var sslKeyFile = connection.getAsNullableString("ssl_key_file");
@@ -308,24 +373,212 @@ public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
                 } catch (KeyManagementException e) {
                     throw new IllegalStateException(e);
                 }
+
+                phaseStart = endStartupPhase(correlationId, "ssl", phaseStart);
             }
 
-            performRegistrations();
+            _rootHandler = new RootHandler();
 
-            if (sslContext != null)
-                _server = JdkHttpServerFactory.createHttpServer(uri, _resources, sslContext);
-            else
-                _server = JdkHttpServerFactory.createHttpServer(uri, _resources);
-//			_server.start();
+            if (_earlyBind) {
+                _server = createServer(port, sslContext);
+                phaseStart = endStartupPhase(correlationId, "bind", phaseStart);
 
-            _logger.info(correlationId, "Opened REST service at %s", _url);
+                final var handler = _rootHandler;
+                final var initStart = phaseStart;
+                var thread = new Thread(() -> {
+                    try {
+                        initializeRoutes(correlationId, handler, port, null, openStart, initStart);
+                    } catch (Exception ex) {
+                        _logger.error(correlationId, ex, "Failed to initialize routes at %s", _url);
+                        abortOpen(correlationId, handler);
+                    }
+                }, "http-endpoint-init");
+                thread.setDaemon(true);
+                thread.start();
+
+                _logger.info(correlationId, "Opened REST service at %s, routes are initialized in background", _url);
+            } else {
+                initializeRoutes(correlationId, _rootHandler, port, sslContext, openStart, phaseStart);
+
+                _logger.info(correlationId, "Opened REST service at %s", _url);
+            }
         } catch (Exception ex) {
+            if (_server != null)
+                _server.stop(0);
             _server = null;
+            _rootHandler = null;
+            shutdownExecutor();
+            _accessLog.close(correlationId);
+            _watchdog.close(correlationId);
             throw new ConnectionException(correlationId, "CANNOT_CONNECT", "Opening HTTP endpoint failed").wrap(ex)
                     .withDetails("url", _url);
         }
     }
 
+    private void initializeRoutes(String correlationId, RootHandler handler, int port, SSLContext sslContext,
+                                  long openStart, long phaseStart) throws Exception {
+        _resources = new ResourceConfig();
+
+        if (_accessLog.isEnabled()) {
+            _accessLog.open(correlationId);
+            _resources.register(new AccessLogFilter(this, _accessLog));
+        }
+
+        if (_watchdog.isEnabled()) {
+            _watchdog.open(correlationId);
+            _resources.register(_watchdog.createFilter(this));
+        }
+
+        if (!HttpCodecs.isJsonOnly())
+            _resources.register(new CodecNegotiationFilter());
+
+        performRegistrations(correlationId);
+        phaseStart = endStartupPhase(correlationId, "register", phaseStart);
+
+        var container = ContainerFactory.createContainer(JdkHttpHandlerContainer.class, _resources);
+        container.getApplicationHandler().onStartup(container);
+        phaseStart = endStartupPhase(correlationId, "container", phaseStart);
+
+        // The endpoint was closed while routes were initialized in background
+        if (_rootHandler != handler) {
+            container.getApplicationHandler().onShutdown(container);
+            return;
+        }
+
+        _container = container;
+        handler.setDelegate(container);
+
+        if (_server == null) {
+            _server = createServer(port, sslContext);
+            endStartupPhase(correlationId, "bind", phaseStart);
+        }
+
+        endStartupPhase(correlationId, "total", openStart);
+    }
+
+    /**
+     * Closes the early bound server when its routes failed to initialize,
+     * so the endpoint reports that it is not open instead of responding with 503 forever.
+     */
+    private synchronized void abortOpen(String correlationId, RootHandler handler) {
+        // The endpoint was already closed or reopened
+        if (_rootHandler != handler)
+            return;
+
+        if (_server != null)
+            _server.stop(0);
+        _server = null;
+        _rootHandler = null;
+        _resources = null;
+        shutdownExecutor();
+        _accessLog.close(correlationId);
+        _watchdog.close(correlationId);
+    }
+
+    private HttpServer createServer(int port, SSLContext sslContext) throws IOException {
+        HttpServer server;
+
+        if (sslContext != null) {
+            var httpsServer = HttpsServer.create(new InetSocketAddress(port), 0);
+            httpsServer.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+            server = httpsServer;
+        } else {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+        }
+
+        if (_maxThreads > 0) {
+            var threadCount = new AtomicInteger();
+            _executor = Executors.newFixedThreadPool(_maxThreads, runnable -> {
+                var thread = new Thread(runnable, "http-endpoint-" + port + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(_executor);
+        }
+
+        server.createContext("/", _rootHandler);
+        for (var rawRoute : _rawRoutes.values())
+            server.createContext(rawRoute.route, rawRoute);
+        server.start();
+
+        return server;
+    }
+
+    private void shutdownExecutor() {
+        if (_executor != null) {
+            _executor.shutdownNow();
+            _executor = null;
+        }
+    }
+
+    private long endStartupPhase(String correlationId, String phase, long start) {
+        long now = System.nanoTime();
+        float elapsed = (now - start) / 1000000f;
+
+        _logger.debug(correlationId, "HTTP endpoint startup phase %s took %s ms", phase, elapsed);
+        _counters.last("http.endpoint.startup." + phase + "_time", elapsed);
+
+        return now;
+    }
+
+    /**
+     * Handler of a raw route. It serves requests that exactly match the route and method
+     * and passes all other requests that fall into the same server context to Jersey.
+     */
+    private class RawRouteHandler implements HttpHandler {
+        final String route;
+        final Map<String, HttpHandler> handlers = new ConcurrentHashMap<>();
+
+        RawRouteHandler(String route) {
+            this.route = route;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            var path = exchange.getRequestURI().getRawPath();
+            var handler = handlers.get(exchange.getRequestMethod());
+
+            if (handler != null && (path.equals(route) || path.length() == route.length() + 1 && path.endsWith("/")))
+                handler.handle(exchange);
+            else if (_rootHandler != null)
+                _rootHandler.handle(exchange);
+            else
+                exchange.close();
+        }
+    }
+
+    /**
+     * Root handler of the HTTP server. It responds with 503 status code until
+     * the Jersey container with registered routes is ready.
+     */
+    private static class RootHandler implements HttpHandler {
+        private volatile HttpHandler _delegate;
+
+        void setDelegate(HttpHandler delegate) {
+            _delegate = delegate;
+        }
+
+        boolean isReady() {
+            return _delegate != null;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            var delegate = _delegate;
+            if (delegate != null) {
+                delegate.handle(exchange);
+                return;
+            }
+
+            try {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                exchange.sendResponseHeaders(503, -1);
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
     private String readCertFile(String path) throws IOException {
         if (path == null) return null;
 
@@ -341,24 +594,37 @@ public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
      *                      call chain.
      */
     @Override
-    public void close(String correlationId) {
+    public synchronized void close(String correlationId) {
         if (_server != null) {
             // Eat exceptions
             try {
                 _server.stop(0);
+                if (_container != null)
+                    _container.getApplicationHandler().onShutdown(_container);
                 _logger.info(correlationId, "Closed HTTP endpoint at %s", _url);
             } catch (Exception ex) {
                 _logger.warn(correlationId, "Failed while closing HTTP endpoint: %s", ex);
             }
             _server = null;
+            shutdownExecutor();
+            _container = null;
+            _rootHandler = null;
+            _rawRoutes.clear();
             _resources = null;
             _url = null;
         }
+
+        _accessLog.close(correlationId);
+        _watchdog.close(correlationId);
     }
 
-    private void performRegistrations() {
-        for (IRegisterable registration : _registrations)
+    private void performRegistrations(String correlationId) {
+        for (IRegisterable registration : _registrations) {
+            long start = System.nanoTime();
             registration.register();
+            _logger.trace(correlationId, "Registered %s in %s ms",
+                    registration.getClass().getSimpleName(), (System.nanoTime() - start) / 1000000f);
+        }
     }
 
     /**
@@ -407,6 +673,32 @@ public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
         return value;
     }
 
+    /**
+     * Registers a raw handler attached directly to the HTTP server by the given method and route.
+     * Requests to the route bypass Jersey routing, filters and interceptors, so it shall
+     * be used only for trivial high-volume operations like heartbeats.
+     *
+     * @param method  the HTTP method of the route.
+     * @param route   the exact route to handle.
+     * @param handler the handler that writes the response.
+     */
+    public void registerRawRoute(String method, String route, HttpHandler handler) {
+        route = fixRoute(route);
+        if (route.length() > 1 && route.endsWith("/"))
+            route = route.substring(0, route.length() - 1);
+
+        var rawRoute = _rawRoutes.get(route);
+        if (rawRoute == null) {
+            rawRoute = new RawRouteHandler(route);
+            _rawRoutes.put(route, rawRoute);
+
+            if (_server != null)
+                _server.createContext(route, rawRoute);
+        }
+
+        rawRoute.handlers.put(method.toUpperCase(), handler);
+    }
+
     /**
      * Registers an action in this objects REST server (service) by the given method
      * and route.
@@ -424,7 +716,15 @@ public class HttpEndpoint implements IOpenable, IConfigurable, IReferenceable {
 
         method = method.toUpperCase();
 
-        builder.addMethod(method).handledBy(action);
+        final String template = "/" + route;
+        builder.addMethod(method).handledBy(new Inflector<ContainerRequestContext, Response>() {
+            @Override
+            public Response apply(ContainerRequestContext req) {
+                req.setProperty(ROUTE_PROPERTY, template);
+                _watchdog.setRoute(req, template);
+                return action.apply(req);
+            }
+        });
 
         Resource resource = builder.build();
 
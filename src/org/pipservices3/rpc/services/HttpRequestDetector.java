@@ -2,16 +2,41 @@ package org.pipservices3.rpc.services;
 
 import jakarta.ws.rs.container.ContainerRequestContext;
 
-import java.net.InetAddress;
 import java.net.UnknownHostException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.regex.Pattern;
 
 /**
  * Helper class that retrieves parameters from HTTP requests.
  */
 public class HttpRequestDetector {
+    private static final Pattern IOS_VERSION = Pattern.compile("CPU( iPhone)? OS ([0-9\\._]+) like Mac OS X");
+    private static final Pattern ANDROID_VERSION = Pattern.compile("Android ([0-9\\.]+)[\\);]");
+    private static final Pattern WEBOS_VERSION = Pattern.compile("webOS\\/([0-9\\.]+)[\\);]");
+    private static final Pattern MAC_VERSION = Pattern.compile("(Intel|PPC) Mac OS X ?([0-9\\._]*)[\\)\\;]");
+    private static final Pattern WINDOWS_VERSION = Pattern.compile("Windows NT ([0-9\\._]+)[\\);]");
+
+    private static final UserAgentCache _userAgents = new UserAgentCache(1000);
+
+    /**
+     * Gets the shared cache of parsed user agents.
+     *
+     * @return the user agent cache.
+     */
+    public static UserAgentCache getUserAgentCache() {
+        return _userAgents;
+    }
+
+    /**
+     * Detects the platform and the browser (using "user-agent") from which the given HTTP request was made.
+     * Results are cached per user agent string.
+     *
+     * @param req an HTTP request to process.
+     * @return the detected platform and browser.
+     */
+    public static UserAgentInfo detectUserAgent(ContainerRequestContext req) {
+        return _userAgents.get(req.getHeaderString("user-agent"));
+    }
+
     /**
      * Detects the platform (using "user-agent") from which the given HTTP request was made.
      *
@@ -21,15 +46,39 @@ public class HttpRequestDetector {
      * be returned.
      */
     public static String detectPlatform(ContainerRequestContext req) {
-        var ua = req.getHeaderString("user-agent");
-        String version;
+        return detectUserAgent(req).getPlatform();
+    }
 
+    /**
+     * Detects the browser (using "user-agent") from which the given HTTP request was made.
+     *
+     * @param req   an HTTP request to process.
+     * @return the detected browser. Detectable browsers: "chrome", "msie", "firefox",
+     *          "safari". Otherwise - "unknown" will be returned.
+     */
+    public static String detectBrowser(ContainerRequestContext req) {
+        return detectUserAgent(req).getBrowser();
+    }
+
+    /**
+     * Parses the user agent string without caching.
+     *
+     * @param ua the value of "user-agent" header.
+     * @return the detected platform and browser.
+     */
+    public static UserAgentInfo parseUserAgent(String ua) {
+        if (ua == null || ua.isEmpty())
+            return UserAgentInfo.UNKNOWN;
+
+        return new UserAgentInfo(parsePlatform(ua), parseBrowser(ua));
+    }
+
+    private static String parsePlatform(String ua) {
         if (ua.contains("mobile"))
             return "mobile";
-        if (ua.contains("like Mac OS X")) {
-            var resMatch = match("CPU( iPhone)? OS ([0-9\\._]+) like Mac OS X", ua);
 
-            version = resMatch.get(2).replace('_', '.');
+        if (ua.contains("like Mac OS X")) {
+            var version = match(IOS_VERSION, ua, 2).replace('_', '.');
 
             if (ua.contains("iPhone"))
                 return "iphone " + version;
@@ -40,59 +89,45 @@ public class HttpRequestDetector {
             return "macosx " + version;
         }
 
-        if (ua.contains("Android")) {
-            var resMatch = match("Android ([0-9\\.]+)[\\);]", ua);
-            version = resMatch.get(1);
-            return "android " + version;
-        }
+        if (ua.contains("Android"))
+            return "android " + match(ANDROID_VERSION, ua, 1);
 
-        if (ua.contains("webOS")) {
-            var resMatch = match("webOS\\/([0-9\\.]+)[\\);]", ua);
-            version = resMatch.get(1);
-            return "webos " + version;
-        }
-
-        if (ua.contains("Intel Mac OS X") || ua.contains("PPC Mac OS X")) {
-            var resMatch = match("(Intel|PPC) Mac OS X ?([0-9\\._]*)[\\)\\;]", ua);
-            version = resMatch.get(2).replace("_", ".");
-            return "mac " + version;
-        }
+        if (ua.contains("webOS"))
+            return "webos " + match(WEBOS_VERSION, ua, 1);
 
+        if (ua.contains("Intel Mac OS X") || ua.contains("PPC Mac OS X"))
+            return "mac " + match(MAC_VERSION, ua, 2).replace('_', '.');
 
         if (ua.contains("Windows NT")) {
-            try {
-                var resMatch = match("Windows NT ([0-9\\._]+)[\\);]", ua);
-                version = resMatch.get(1);
-                return "windows " + version;
-            } catch (Exception ex) {
-                return "unknown";
-            }
+            var version = match(WINDOWS_VERSION, ua, 1);
+            return version.isEmpty() ? "unknown" : "windows " + version;
         }
 
-
         return "unknown";
     }
 
-    /**
-     * Detects the browser (using "user-agent") from which the given HTTP request was made.
-     *
-     * @param req   an HTTP request to process.
-     * @return the detected browser. Detectable browsers: "chrome", "msie", "firefox",
-     *          "safari". Otherwise - "unknown" will be returned.
-     */
-    public static String detectBrowser(ContainerRequestContext req) {
-        var ua = req.getHeaderString("user-agent");
+    private static String parseBrowser(String ua) {
+        var lowerUa = ua.toLowerCase();
 
-        if (ua.contains("chrome"))
+        if (lowerUa.contains("chrome"))
             return "chrome";
-        if (ua.contains("msie"))
+        if (lowerUa.contains("msie"))
             return "msie";
-        if (ua.contains("firefox"))
+        if (lowerUa.contains("firefox"))
             return "firefox";
-        if (ua.contains("safari"))
+        if (lowerUa.contains("safari"))
             return "safari";
 
-        return ua.isEmpty() ? "unknown" : ua;
+        return ua;
+    }
+
+    private static String match(Pattern pattern, String string, int group) {
+        var matcher = pattern.matcher(string);
+        if (!matcher.find())
+            return "";
+
+        var value = matcher.group(group);
+        return value != null ? value : "";
     }
 
     /**
@@ -105,8 +140,9 @@ public class HttpRequestDetector {
     public static String detectAddress(ContainerRequestContext req) {
         String ip = null;
 
-        if (!req.getHeaderString("x-forwarded-for").isEmpty())
-            ip = req.getHeaderString("x-forwarded-for").split(",")[0];
+        var forwardedFor = req.getHeaderString("x-forwarded-for");
+        if (forwardedFor != null && !forwardedFor.isEmpty())
+            ip = forwardedFor.split(",")[0].trim();
 
 //
 //        if (ip == null && req.ip) {
@@ -135,15 +171,6 @@ public class HttpRequestDetector {
         return ip;
     }
 
-    private static List<String> match(String pattern, String string) {
-        Pattern stringPattern = Pattern.compile(pattern);
-        var matcher = stringPattern.matcher(string);
-        var resMatch = new ArrayList<String>();
-        while (matcher.find())
-            resMatch.add(matcher.group());
-        return resMatch;
-    }
-
     /**
      * Detects the host name of the request's destination server.
      *
@@ -151,7 +178,7 @@ public class HttpRequestDetector {
      * @return the destination server's host name.
      */
     public static String detectServerHost(ContainerRequestContext req) throws UnknownHostException {
-        return "" + InetAddress.getLocalHost().getHostName();
+        return HostInfoSnapshot.getInstance().getHostName();
     }
 
     /**
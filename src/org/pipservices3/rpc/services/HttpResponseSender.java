@@ -8,6 +8,8 @@ import org.pipservices3.commons.errors.ErrorDescriptionFactory;
 
 /**
  * Helper class that handles HTTP-based responses.
+ * <p>
+ * Results are serialized by {@link JacksonHttpCodec} directly into the response stream.
  */
 public class HttpResponseSender {
 	private final static int INTERNAL_SERVER_ERROR = 500;
@@ -15,6 +17,8 @@ public class HttpResponseSender {
 	private final static int CREATED = 201;
 	private final static int OK = 200;
 
+	private final static JacksonHttpCodec _codec = JacksonHttpCodec.getDefault();
+
 	/**
 	 * Sends error serialized as ErrorDescription object and appropriate HTTP status
 	 * code. If status code is not defined, it uses 500 status code.
@@ -34,10 +38,10 @@ public class HttpResponseSender {
 			if (ex instanceof ApplicationException) {
 				ApplicationException ex3 = (ApplicationException) ex;
 				ErrorDescription errorDesc3 = ErrorDescriptionFactory.create(ex3);
-				return Response.status(ex3.getStatus()).type(MediaType.APPLICATION_JSON).entity(errorDesc3).build();
+				return Response.status(ex3.getStatus()).type(MediaType.APPLICATION_JSON).entity(_codec.toEntity(errorDesc3)).build();
 			} else {
 				ErrorDescription errorDesc = ErrorDescriptionFactory.create(ex, null);
-				return Response.status(INTERNAL_SERVER_ERROR).type(MediaType.APPLICATION_JSON).entity(errorDesc)
+				return Response.status(INTERNAL_SERVER_ERROR).type(MediaType.APPLICATION_JSON).entity(_codec.toEntity(errorDesc))
 						.build();
 			}
 		} catch (Exception ex2) {
@@ -62,7 +66,7 @@ public class HttpResponseSender {
 			if (result == null) {
 				return Response.status(NO_CONTENT).build();
 			} else {
-				return Response.status(OK).type(MediaType.APPLICATION_JSON).entity(result).build();
+				return Response.status(OK).type(MediaType.APPLICATION_JSON).entity(_codec.toEntity(result)).build();
 			}
 		} catch (Exception ex2) {
 			return Response.status(INTERNAL_SERVER_ERROR).build();
@@ -96,7 +100,7 @@ public class HttpResponseSender {
 			if (result == null) {
 				return Response.status(NO_CONTENT).build();
 			} else {
-				return Response.status(CREATED).type(MediaType.APPLICATION_JSON).entity(result).build();
+				return Response.status(CREATED).type(MediaType.APPLICATION_JSON).entity(_codec.toEntity(result)).build();
 			}
 		} catch (Exception ex2) {
 			return Response.status(INTERNAL_SERVER_ERROR).build();
@@ -120,7 +124,7 @@ public class HttpResponseSender {
 			if (result == null) {
 				return Response.status(NO_CONTENT).build();
 			} else {
-				return Response.status(OK).type(MediaType.APPLICATION_JSON).entity(result).build();
+				return Response.status(OK).type(MediaType.APPLICATION_JSON).entity(_codec.toEntity(result)).build();
 			}
 		} catch (Exception ex2) {
 			return Response.status(INTERNAL_SERVER_ERROR).build();
@@ -0,0 +1,41 @@
+package org.pipservices3.rpc.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Interface for codecs that serialize HTTP request and response bodies
+ * in a particular media type.
+ *
+ * @see HttpCodecs
+ * @see JacksonHttpCodec
+ */
+public interface IHttpCodec {
+    /**
+     * Gets the media type produced and consumed by this codec.
+     *
+     * @return the media type, like "application/json".
+     */
+    String getMediaType();
+
+    /**
+     * Serializes the value into the output stream.
+     *
+     * @param value  the value to serialize.
+     * @param output the stream to write to.
+     * @throws IOException when serialization or writing fails.
+     */
+    void write(Object value, OutputStream output) throws IOException;
+
+    /**
+     * Deserializes a value from the input stream.
+     *
+     * @param type  the type of the value.
+     * @param input the stream to read from.
+     * @return the deserialized value.
+     * @throws IOException when reading or deserialization fails.
+     */
+    <T> T read(Type type, InputStream input) throws IOException;
+}
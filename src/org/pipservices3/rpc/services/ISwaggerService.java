@@ -1,5 +1,7 @@
 package org.pipservices3.rpc.services;
 
+import java.util.function.Supplier;
+
 /**
  * Interface to perform Swagger registrations.
  */
@@ -8,4 +10,16 @@ public interface ISwaggerService {
      * Perform required Swagger registration steps.
      */
     void registerOpenApiSpec(String baseRoute, String swaggerRoute);
+
+    /**
+     * Perform required Swagger registration steps and pass the specification content,
+     * so it can be included into an aggregated document.
+     *
+     * @param baseRoute    the base route of the service.
+     * @param swaggerRoute the route of the service specification.
+     * @param content      a function that returns the specification content in YAML.
+     */
+    default void registerOpenApiSpec(String baseRoute, String swaggerRoute, Supplier<String> content) {
+        registerOpenApiSpec(baseRoute, swaggerRoute);
+    }
 }
@@ -0,0 +1,50 @@
+package org.pipservices3.rpc.services;
+
+/**
+ * Precomputed names of counters used to instrument a single operation.
+ * Instances are created once at registration time and reused by every call,
+ * so instrumentation does not build metric names on each request.
+ *
+ * @see InstrumentTiming
+ */
+public final class InstrumentNames {
+    private final String _name;
+    private final String _verb;
+    private final String _count;
+    private final String _time;
+    private final String _errors;
+
+    /**
+     * Creates names for the operation.
+     *
+     * @param name the operation name.
+     * @param verb the instrumented action: "exec" for services or "call" for clients.
+     */
+    public InstrumentNames(String name, String verb) {
+        _name = name.intern();
+        _verb = verb != null ? verb : "call";
+        _count = (_name + "." + _verb + "_count").intern();
+        _time = (_name + "." + _verb + "_time").intern();
+        _errors = (_name + "." + _verb + "_errors").intern();
+    }
+
+    public String getName() {
+        return _name;
+    }
+
+    public String getVerb() {
+        return _verb;
+    }
+
+    public String getCountName() {
+        return _count;
+    }
+
+    public String getTimeName() {
+        return _time;
+    }
+
+    public String getErrorsName() {
+        return _errors;
+    }
+}
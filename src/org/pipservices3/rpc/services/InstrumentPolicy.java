@@ -0,0 +1,182 @@
+package org.pipservices3.rpc.services;
+
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.config.IConfigurable;
+import org.pipservices3.commons.refer.Descriptor;
+import org.pipservices3.commons.refer.IReferenceable;
+import org.pipservices3.commons.refer.IReferences;
+import org.pipservices3.components.count.ICounters;
+import org.pipservices3.components.log.CompositeLogger;
+import org.pipservices3.components.log.ILogger;
+import org.pipservices3.components.log.LogLevel;
+import org.pipservices3.components.trace.ITracer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Instrumentation of service and client calls shared by RPC components.
+ * <p>
+ * Counters are always updated. Trace log messages are formatted only when a logger is at trace level.
+ * For a composite logger the levels of referenced loggers it forwards to are checked. Levels are checked
+ * on every call, so level changes take effect immediately.
+ * Traces are sampled at the head of the call chain:
+ * the decision is derived from the correlation id, so all components that share the same
+ * sample rate record or skip the whole chain together. Calls without correlation id are sampled randomly.
+ * <p>
+ * Counter names are cached per operation name to avoid building them on every call.
+ * <p>
+ * ### Configuration parameters ###
+ * <ul>
+ * <li>options:
+ *   <ul>
+ *   <li>trace_sample_rate:     share of calls recorded by tracers from 0 to 1 (default: 1)
+ *   </ul>
+ * </ul>
+ *
+ * @see InstrumentTiming
+ * @see InstrumentNames
+ */
+public class InstrumentPolicy implements IConfigurable, IReferenceable {
+    private static final int SAMPLE_SCALE = 10000;
+    private static final int MAX_CACHED_NAMES = 1000;
+
+    private final String _verb;
+    private final String _message;
+    private final Map<String, InstrumentNames> _names = new ConcurrentHashMap<>();
+    private double _traceSampleRate = 1;
+    private int _traceSampleThreshold = SAMPLE_SCALE;
+    private volatile List<ILogger> _loggers = List.of();
+
+    /**
+     * Creates a new policy.
+     *
+     * @param verb the instrumented action: "exec" for services or "call" for clients.
+     */
+    public InstrumentPolicy(String verb) {
+        _verb = verb;
+        _message = "exec".equals(verb) ? "Executing %s method" : "Calling %s method";
+    }
+
+    /**
+     * Configures component by passing configuration parameters.
+     *
+     * @param config configuration parameters to be set.
+     */
+    @Override
+    public void configure(ConfigParams config) {
+        var rate = config.getAsDoubleWithDefault("options.trace_sample_rate", _traceSampleRate);
+        _traceSampleRate = Math.max(0, Math.min(1, rate));
+        _traceSampleThreshold = (int) Math.round(_traceSampleRate * SAMPLE_SCALE);
+    }
+
+    /**
+     * Sets references to dependent components.
+     * It keeps referenced loggers to check their levels for composite loggers.
+     *
+     * @param references references to locate the component dependencies.
+     */
+    @Override
+    public void setReferences(IReferences references) {
+        var loggers = new ArrayList<ILogger>();
+        for (var logger : references.getOptional(new Descriptor(null, "logger", null, null, null))) {
+            if (logger instanceof ILogger && !(logger instanceof CompositeLogger))
+                loggers.add((ILogger) logger);
+        }
+        _loggers = List.copyOf(loggers);
+    }
+
+    /**
+     * Gets the share of calls recorded by tracers.
+     *
+     * @return the sample rate from 0 to 1.
+     */
+    public double getTraceSampleRate() {
+        return _traceSampleRate;
+    }
+
+    /**
+     * Checks if trace log messages shall be written to the logger.
+     * A composite logger is checked by the levels of referenced loggers,
+     * since its own level does not reflect them.
+     *
+     * @param logger the logger of the call.
+     * @return true if the logger or any referenced logger is at trace level.
+     */
+    public boolean isTraceLogEnabled(ILogger logger) {
+        if (logger == null)
+            return false;
+        if (!(logger instanceof CompositeLogger))
+            return isTraceLevel(logger);
+
+        for (var child : _loggers) {
+            if (isTraceLevel(child))
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean isTraceLevel(ILogger logger) {
+        var level = logger.getLevel();
+        return level != null && level.ordinal() >= LogLevel.Trace.ordinal();
+    }
+
+    /**
+     * Decides if a call shall be recorded by tracers.
+     *
+     * @param correlationId (optional) transaction id to trace execution through call chain.
+     * @return true if the call is sampled.
+     */
+    public boolean isSampled(String correlationId) {
+        if (_traceSampleThreshold >= SAMPLE_SCALE)
+            return true;
+        if (_traceSampleThreshold <= 0)
+            return false;
+
+        var hash = correlationId != null
+                ? correlationId.hashCode() : ThreadLocalRandom.current().nextInt();
+        return Math.floorMod(hash, SAMPLE_SCALE) < _traceSampleThreshold;
+    }
+
+    /**
+     * Gets cached counter names for the operation.
+     *
+     * @param name the operation name.
+     * @return the counter names.
+     */
+    public InstrumentNames getNames(String name) {
+        var names = _names.get(name);
+        if (names == null) {
+            names = new InstrumentNames(name, _verb);
+            // Do not let dynamic names grow the cache without limits
+            if (_names.size() < MAX_CACHED_NAMES)
+                _names.put(name, names);
+        }
+        return names;
+    }
+
+    /**
+     * Starts instrumentation of a call.
+     *
+     * @param correlationId (optional) transaction id to trace execution through call chain.
+     * @param names         counter names of the operation.
+     * @param logger        the logger to write trace messages and errors.
+     * @param counters      the counters to measure calls.
+     * @param tracer        the tracer to record sampled calls.
+     * @return Timing object to end the time measurement.
+     */
+    public InstrumentTiming begin(String correlationId, InstrumentNames names,
+                                  ILogger logger, ICounters counters, ITracer tracer) {
+        if (isTraceLogEnabled(logger))
+            logger.trace(correlationId, _message, names.getName());
+        counters.incrementOne(names.getCountName());
+
+        var counterTiming = counters.beginTiming(names.getTimeName());
+        var traceTiming = isSampled(correlationId)
+                ? tracer.beginTrace(correlationId, names.getName(), null) : null;
+        return new InstrumentTiming(correlationId, names, logger, counters, counterTiming, traceTiming);
+    }
+}
@@ -10,6 +10,7 @@ public class InstrumentTiming {
     private final String _correlationId;
     private final String _name;
     private final String _verb;
+    private final String _errorsName;
     private ILogger _logger;
     private ICounters _counters;
     private CounterTiming _counterTiming;
@@ -21,6 +22,20 @@ public class InstrumentTiming {
         this._correlationId = correlationId;
         this._name = name;
         this._verb = verb != null ? verb : "call";
+        this._errorsName = null;
+        this._logger = logger;
+        this._counters = counters;
+        this._counterTiming = counterTiming;
+        this._traceTiming = traceTiming;
+    }
+
+    public InstrumentTiming(String correlationId, InstrumentNames names,
+                            ILogger logger, ICounters counters,
+                            CounterTiming counterTiming, TraceTiming traceTiming) {
+        this._correlationId = correlationId;
+        this._name = names.getName();
+        this._verb = names.getVerb();
+        this._errorsName = names.getErrorsName();
         this._logger = logger;
         this._counters = counters;
         this._counterTiming = counterTiming;
@@ -68,7 +83,8 @@ public class InstrumentTiming {
                 this._logger.error(this._correlationId, err, "Failed to call %s method", this._name);
             }
             if (this._counters != null) {
-                this._counters.incrementOne(this._name + "." + this._verb + "_errors");
+                this._counters.incrementOne(this._errorsName != null
+                        ? this._errorsName : this._name + "." + this._verb + "_errors");
             }
             if (this._traceTiming != null) {
                 this._traceTiming.endFailure(err);
@@ -0,0 +1,241 @@
+package org.pipservices3.rpc.services;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Jackson serialization pipeline for HTTP requests and responses.
+ * By default it produces JSON, binary formats are created with a different Jackson factory.
+ * <p>
+ * It keeps one {@link ObjectMapper} and caches an {@link ObjectWriter} per result type,
+ * so serializers are resolved once per type instead of on every response.
+ * Results are written straight into the response output stream by a {@link StreamingOutput} entity,
+ * Jackson generators take their byte and char buffers from the thread-local buffer recycler.
+ * <p>
+ * When Blackbird (or older Afterburner) Jackson module is present in the classpath, it is registered
+ * automatically to replace reflection with generated property accessors.
+ * <p>
+ * Strings, byte arrays, streams and {@link StreamingOutput} are passed as is,
+ * in the same way as Jersey Jackson provider does.
+ *
+ * @see HttpResponseSender
+ */
+public class JacksonHttpCodec implements IHttpCodec {
+    private static final String[] ACCESSOR_MODULES = {
+            "com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+            "com.fasterxml.jackson.module.afterburner.AfterburnerModule"
+    };
+
+    private static final JacksonHttpCodec _default = new JacksonHttpCodec();
+
+    private final String _mediaType;
+    private final ObjectMapper _mapper;
+    private final Map<Class<?>, ObjectWriter> _writers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new codec with default object mapper.
+     */
+    public JacksonHttpCodec() {
+        this(MediaType.APPLICATION_JSON, createMapper(new ObjectMapper()));
+    }
+
+    /**
+     * Creates a new codec for the given media type and Jackson format factory.
+     *
+     * @param mediaType the media type produced by the factory.
+     * @param factory   the Jackson factory for the data format.
+     */
+    public JacksonHttpCodec(String mediaType, JsonFactory factory) {
+        this(mediaType, createMapper(new ObjectMapper(factory)));
+    }
+
+    /**
+     * Creates a new codec with the given object mapper.
+     *
+     * @param mediaType the media type produced by the mapper.
+     * @param mapper    the object mapper to serialize results.
+     */
+    public JacksonHttpCodec(String mediaType, ObjectMapper mapper) {
+        _mediaType = mediaType;
+        _mapper = mapper;
+    }
+
+    /**
+     * Gets the codec shared by all HTTP services.
+     *
+     * @return the default codec.
+     */
+    public static JacksonHttpCodec getDefault() {
+        return _default;
+    }
+
+    /**
+     * Gets the object mapper used by this codec.
+     *
+     * @return the object mapper.
+     */
+    public ObjectMapper getMapper() {
+        return _mapper;
+    }
+
+    /**
+     * Gets the media type produced and consumed by this codec.
+     *
+     * @return the media type.
+     */
+    @Override
+    public String getMediaType() {
+        return _mediaType;
+    }
+
+    private static ObjectMapper createMapper(ObjectMapper mapper) {
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        // Jersey closes the response stream itself
+        mapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+        for (var moduleName : ACCESSOR_MODULES) {
+            try {
+                var moduleType = Class.forName(moduleName);
+                mapper.registerModule((Module) moduleType.getDeclaredConstructor().newInstance());
+                break;
+            } catch (ReflectiveOperationException | LinkageError ex) {
+                // The module is not available
+            }
+        }
+
+        return mapper;
+    }
+
+    /**
+     * Checks if the value is written by Jersey without serialization.
+     *
+     * @param value the value to check.
+     * @return true if the value shall be passed as is.
+     */
+    public static boolean isUntouchable(Object value) {
+        return value instanceof String || value instanceof byte[] || value instanceof char[]
+                || value instanceof InputStream || value instanceof StreamingOutput;
+    }
+
+    /**
+     * Gets a cached writer for the given type.
+     *
+     * @param type the type of values to serialize.
+     * @return the object writer.
+     */
+    public ObjectWriter getWriter(Class<?> type) {
+        var writer = _writers.get(type);
+        if (writer == null) {
+            writer = _mapper.writerFor(type);
+            _writers.put(type, writer);
+        }
+        return writer;
+    }
+
+    /**
+     * Serializes the value into the output stream.
+     *
+     * @param value  the value to serialize.
+     * @param output the stream to write to.
+     * @throws IOException when serialization or writing fails.
+     */
+    @Override
+    public void write(Object value, OutputStream output) throws IOException {
+        getWriter(value.getClass()).writeValue(output, value);
+    }
+
+    /**
+     * Deserializes a value from the input stream.
+     *
+     * @param type  the type of the value.
+     * @param input the stream to read from.
+     * @return the deserialized value.
+     * @throws IOException when reading or deserialization fails.
+     */
+    @Override
+    public <T> T read(Type type, InputStream input) throws IOException {
+        return _mapper.readValue(input, _mapper.constructType(type));
+    }
+
+    /**
+     * Serializes the value into a byte array.
+     *
+     * @param value the value to serialize.
+     * @return the serialized value.
+     * @throws IOException when serialization fails.
+     */
+    public byte[] toBytes(Object value) throws IOException {
+        return getWriter(value.getClass()).writeValueAsBytes(value);
+    }
+
+    /**
+     * Wraps the value into a response entity that serializes it directly into the response stream.
+     * The entity keeps the original value, so it can be re-encoded after content negotiation.
+     *
+     * @param value the value to send.
+     * @return the response entity.
+     */
+    public Object toEntity(Object value) {
+        if (value == null || isUntouchable(value))
+            return value;
+
+        return new EncodedEntity(this, value);
+    }
+
+    /**
+     * Response entity that serializes its value by a codec when Jersey writes the response.
+     */
+    public static class EncodedEntity implements StreamingOutput {
+        private final IHttpCodec _codec;
+        private final Object _value;
+
+        /**
+         * Creates a new entity.
+         *
+         * @param codec the codec to serialize the value.
+         * @param value the value to send.
+         */
+        public EncodedEntity(IHttpCodec codec, Object value) {
+            _codec = codec;
+            _value = value;
+        }
+
+        /**
+         * Gets the codec that serializes the value.
+         *
+         * @return the codec.
+         */
+        public IHttpCodec getCodec() {
+            return _codec;
+        }
+
+        /**
+         * Gets the original value.
+         *
+         * @return the value to send.
+         */
+        public Object getValue() {
+            return _value;
+        }
+
+        @Override
+        public void write(OutputStream output) throws IOException {
+            _codec.write(_value, output);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.pipservices3.rpc.services;
 
+import com.sun.net.httpserver.HttpHandler;
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.MediaType;
@@ -14,6 +15,7 @@ import org.pipservices3.commons.errors.InvalidStateException;
 import org.pipservices3.commons.errors.InvocationException;
 import org.pipservices3.commons.refer.*;
 import org.pipservices3.commons.run.IOpenable;
+import org.pipservices3.commons.run.Parameters;
 import org.pipservices3.commons.validate.Schema;
 import org.pipservices3.components.count.CompositeCounters;
 import org.pipservices3.components.log.CompositeLogger;
@@ -25,7 +27,9 @@ import java.io.InputStream;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 
 /**
@@ -53,6 +57,10 @@ import java.util.function.Function;
  *     <li>"credential.ssl_crt_file" - the SSL certificate in PEM
  *     <li>"credential.ssl_ca_file" - the certificate authorities (root cerfiticates) in PEM
  *     </ul>
+ * <li>options:
+ *   <ul>
+ *   <li>trace_sample_rate:     share of calls recorded by tracers from 0 to 1 (default: 1)
+ *   </ul>
  * </ul>
  * <p>
  * ### References ###
@@ -140,6 +148,10 @@ public abstract class RestService implements IOpenable, IConfigurable, IReferenc
      * The tracer.
      */
     protected CompositeTracer _tracer = new CompositeTracer();
+    /**
+     * The instrumentation policy.
+     */
+    protected InstrumentPolicy _instrumentPolicy = new InstrumentPolicy("exec");
 
     protected String _url;
 
@@ -166,6 +178,8 @@ public abstract class RestService implements IOpenable, IConfigurable, IReferenc
 
         this._swaggerEnable = config.getAsBooleanWithDefault("swagger.enable", this._swaggerEnable);
         this._swaggerRoute = config.getAsStringWithDefault("swagger.route", this._swaggerRoute);
+
+        _instrumentPolicy.configure(config);
     }
 
     /**
@@ -180,6 +194,7 @@ public abstract class RestService implements IOpenable, IConfigurable, IReferenc
         _logger.setReferences(references);
         _counters.setReferences(references);
         _tracer.setReferences(references);
+        _instrumentPolicy.setReferences(references);
         _dependencyResolver.setReferences(references);
 
         _references = references;
@@ -234,13 +249,20 @@ public abstract class RestService implements IOpenable, IConfigurable, IReferenc
      * @return Timing object to end the time measurement.
      */
     protected InstrumentTiming instrument(String correlationId, String name) {
-        this._logger.trace(correlationId, "Executing %s method", name);
-        this._counters.incrementOne(name + ".exec_count");
+        return instrument(correlationId, this._instrumentPolicy.getNames(name));
+    }
 
-        var counterTiming = this._counters.beginTiming(name + ".exec_time");
-        var traceTiming = this._tracer.beginTrace(correlationId, name, null);
-        return new InstrumentTiming(correlationId, name, "exec",
-                this._logger, this._counters, counterTiming, traceTiming);
+    /**
+     * Adds instrumentation to log calls and measure call time using precomputed counter names.
+     * It avoids building metric names on every call.
+     *
+     * @param correlationId (optional) transaction id to trace execution through call chain.
+     * @param names         precomputed names of the method counters.
+     * @return Timing object to end the time measurement.
+     * @see InstrumentNames
+     */
+    protected InstrumentTiming instrument(String correlationId, InstrumentNames names) {
+        return this._instrumentPolicy.begin(correlationId, names, this._logger, this._counters, this._tracer);
     }
 
     /**
@@ -390,14 +412,30 @@ public abstract class RestService implements IOpenable, IConfigurable, IReferenc
     protected String getBodyAsString(ContainerRequestContext request) throws ApplicationException {
         try {
             InputStream streamReader = request.getEntityStream();
-            byte[] data = new byte[streamReader.available()];
-            streamReader.read(data, 0, data.length);
+            // Read until the end of stream, available() may be less than the body size for chunked requests
+            byte[] data = streamReader != null ? streamReader.readAllBytes() : new byte[0];
             return new String(data, StandardCharsets.UTF_8);
         } catch (IOException ex) {
             throw new InvocationException(null, "READ_ERROR", "Cannot read input stream").wrap(ex);
         }
     }
 
+    /**
+     * Gets request body as command parameters. The body is parsed directly from the entity stream
+     * using the codec negotiated by "Content-Type" header or JSON by default.
+     *
+     * @param request HTTP request
+     * @return parsed parameters, empty if the body is empty.
+     * @throws ApplicationException when error occured.
+     */
+    protected Parameters getBodyAsParameters(ContainerRequestContext request) throws ApplicationException {
+        try {
+            return HttpCodecs.readParameters(getRequestCodec(request), request.getEntityStream());
+        } catch (IOException ex) {
+            throw new InvocationException(null, "READ_ERROR", "Failed to deserialize request parameters").wrap(ex);
+        }
+    }
+
     /**
      * Gets request body from json string.
      *
@@ -407,6 +445,15 @@ public abstract class RestService implements IOpenable, IConfigurable, IReferenc
      * @throws ApplicationException when error occured.
      */
     protected <T> T getBodyAsJson(Class<T> type, ContainerRequestContext request) throws ApplicationException {
+        var codec = getRequestCodec(request);
+        if (codec != null) {
+            try {
+                return codec.read(type, request.getEntityStream());
+            } catch (IOException ex) {
+                throw new InvocationException(null, "READ_ERROR", "Failed to deserialize request from " + codec.getMediaType()).wrap(ex);
+            }
+        }
+
         if (!request.getMediaType().toString().contains(MediaType.APPLICATION_JSON)) {
             throw new InvocationException(null, "EXPECTED_JSON", "Expected application/json media type");
         }
@@ -420,6 +467,22 @@ public abstract class RestService implements IOpenable, IConfigurable, IReferenc
         }
     }
 
+    /**
+     * Gets a codec for non-JSON request body negotiated by "Content-Type" header.
+     *
+     * @param request HTTP request
+     * @return a binary codec or null if the body is JSON or has unknown media type.
+     * @see HttpCodecs
+     */
+    protected IHttpCodec getRequestCodec(ContainerRequestContext request) {
+        var mediaType = request.getMediaType();
+        if (mediaType == null || HttpCodecs.isJsonOnly())
+            return null;
+
+        var codec = HttpCodecs.get(mediaType.getType() + "/" + mediaType.getSubtype());
+        return codec == HttpCodecs.getDefault() ? null : codec;
+    }
+
     private String appendBaseRoute(String route) {
         route = route == null ? "/" : route;
 
@@ -467,6 +530,23 @@ public abstract class RestService implements IOpenable, IConfigurable, IReferenc
         _endpoint.registerRoute(method.toUpperCase(), route, schema, action);
     }
 
+    /**
+     * Registers a raw handler in HTTP endpoint that bypasses Jersey routing.
+     *
+     * @param method  HTTP method: "get", "head", "post", "put", "delete"
+     * @param route   a command route. Base route will be added to this route
+     * @param handler a handler that writes the response directly into the exchange.
+     * @see HttpEndpoint#registerRawRoute
+     */
+    protected void registerRawRoute(String method, String route, HttpHandler handler) {
+        if (_endpoint == null)
+            return;
+
+        route = appendBaseRoute(route);
+
+        _endpoint.registerRawRoute(method, route, handler);
+    }
+
     /**
      * Registers a route with authorization in HTTP endpoint.
      *
@@ -509,22 +589,37 @@ public abstract class RestService implements IOpenable, IConfigurable, IReferenc
     }
 
     protected void registerOpenApiSpec(String content) {
+        this.registerOpenApiSpec(() -> content);
+    }
+
+    /**
+     * Registers a route that serves OpenAPI specification of this service.
+     * The content is generated on the first request. Encoded and compressed forms are
+     * kept until the function returns a different content, clients can revalidate it by ETag.
+     *
+     * @param content a function that generates the specification content.
+     */
+    protected void registerOpenApiSpec(Supplier<String> content) {
         if (!this._swaggerEnable) return;
 
+        var cached = new AtomicReference<CachedHttpContent>();
+
         this.registerRoute(HttpMethod.GET, this._swaggerRoute, null, new Inflector<ContainerRequestContext, Response>() {
             @Override
             public Response apply(ContainerRequestContext req) {
-                return Response.status(200)
-                        .entity(content)
-                        .header("Content-Length", content.length())
-                        .header("Content-Type", "application/x-yaml")
-                        .type(MediaType.APPLICATION_XML_TYPE)
-                        .build();
+                var value = content.get();
+                var prepared = cached.get();
+                if (prepared == null || !prepared.isFor(value)) {
+                    prepared = new CachedHttpContent(value, "application/x-yaml");
+                    cached.set(prepared);
+                }
+
+                return prepared.send(req);
             }
         });
 
         if (this._swaggerService != null)
-            this._swaggerService.registerOpenApiSpec(this._baseRoute, this._swaggerRoute);
+            this._swaggerService.registerOpenApiSpec(this._baseRoute, this._swaggerRoute, content);
     }
 
     /**
@@ -0,0 +1,270 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.ext.Provider;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.config.IConfigurable;
+import org.pipservices3.commons.refer.IReferenceable;
+import org.pipservices3.commons.refer.IReferences;
+import org.pipservices3.commons.refer.ReferenceException;
+import org.pipservices3.components.count.CompositeCounters;
+import org.pipservices3.components.log.CompositeLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watchdog that detects HTTP requests running longer than a configured threshold.
+ * <p>
+ * The endpoint tracks the start time and the handler thread of every in-flight request.
+ * When a request exceeds the threshold the watchdog captures the stack of its handler
+ * thread a few times while the request is still running and logs the samples together
+ * with the matched route template and correlation id.
+ * <p>
+ * ### Configuration parameters ###
+ * <ul>
+ * <li>options.slow_request:
+ *   <ul>
+ *   <li>threshold:             request duration in milliseconds to consider it slow, 0 to disable (default: 0)
+ *   <li>samples:               number of stack samples to capture for a slow request (default: 3)
+ *   <li>interval:              interval between checks and stack samples in milliseconds (default: 1000)
+ *   </ul>
+ * </ul>
+ * <p>
+ * ### References ###
+ * <ul>
+ * <li>*:logger:*:*:1.0         (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/log/ILogger.html">ILogger</a> components to log slow requests
+ * <li>*:counters:*:*:1.0       (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/count/ICounters.html">ICounters</a> components to count slow requests
+ * </ul>
+ *
+ * @see HttpEndpoint
+ */
+public class SlowRequestWatchdog implements IConfigurable, IReferenceable {
+    private final static String REQUEST_PROPERTY = "pip-services.slow_request";
+
+    private final CompositeLogger _logger = new CompositeLogger();
+    private final CompositeCounters _counters = new CompositeCounters();
+    private final Set<InFlightRequest> _requests = ConcurrentHashMap.newKeySet();
+
+    private long _threshold = 0;
+    private int _samples = 3;
+    private long _interval = 1000;
+
+    private ScheduledExecutorService _timer;
+
+    private static class InFlightRequest {
+        final long start = System.nanoTime();
+        final Thread thread = Thread.currentThread();
+        final String method;
+        final String correlationId;
+        // Raw path until the request is matched to a route template
+        volatile String route;
+        final List<StackTraceElement[]> samples = new ArrayList<>();
+        final List<Long> sampleTimes = new ArrayList<>();
+        boolean reported;
+
+        InFlightRequest(String method, String route, String correlationId) {
+            this.method = method;
+            this.route = route;
+            this.correlationId = correlationId;
+        }
+    }
+
+    @Provider
+    @PreMatching
+    private static class TrackingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+        private final HttpEndpoint _endpoint;
+        private final SlowRequestWatchdog _watchdog;
+
+        TrackingFilter(HttpEndpoint endpoint, SlowRequestWatchdog watchdog) {
+            _endpoint = endpoint;
+            _watchdog = watchdog;
+        }
+
+        @Override
+        public void filter(ContainerRequestContext request) {
+            var entry = new InFlightRequest(request.getMethod(), "/" + request.getUriInfo().getPath(false),
+                    _endpoint.getCorrelationId(request));
+            request.setProperty(REQUEST_PROPERTY, entry);
+            _watchdog._requests.add(entry);
+        }
+
+        @Override
+        public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+            var entry = (InFlightRequest) request.getProperty(REQUEST_PROPERTY);
+            if (entry == null)
+                return;
+
+            _watchdog._requests.remove(entry);
+            _watchdog.report(entry, true);
+        }
+    }
+
+    /**
+     * Configures component by passing configuration parameters.
+     *
+     * @param config configuration parameters to be set.
+     */
+    @Override
+    public void configure(ConfigParams config) {
+        _threshold = config.getAsLongWithDefault("options.slow_request.threshold", _threshold);
+        _samples = Math.max(1, config.getAsIntegerWithDefault("options.slow_request.samples", _samples));
+        _interval = Math.max(10, config.getAsLongWithDefault("options.slow_request.interval", _interval));
+    }
+
+    /**
+     * Sets references to dependent components.
+     *
+     * @param references references to locate the component dependencies.
+     * @throws ReferenceException when no found references.
+     */
+    @Override
+    public void setReferences(IReferences references) throws ReferenceException {
+        _logger.setReferences(references);
+        _counters.setReferences(references);
+    }
+
+    /**
+     * Checks if slow request detection is turned on in configuration.
+     *
+     * @return true if the threshold is set.
+     */
+    public boolean isEnabled() {
+        return _threshold > 0;
+    }
+
+    /**
+     * Gets the number of requests that are currently tracked.
+     *
+     * @return the number of in-flight requests.
+     */
+    public int getInFlightCount() {
+        return _requests.size();
+    }
+
+    /**
+     * Sets the route template matched by a tracked request, so it is reported instead of the raw path.
+     *
+     * @param request the request context.
+     * @param route   the matched route template.
+     */
+    void setRoute(ContainerRequestContext request, String route) {
+        var entry = (InFlightRequest) request.getProperty(REQUEST_PROPERTY);
+        if (entry != null)
+            entry.route = route;
+    }
+
+    /**
+     * Creates a Jersey filter that registers requests in this watchdog.
+     *
+     * @param endpoint the endpoint that receives the requests.
+     * @return a filter to register in the endpoint resources.
+     */
+    Object createFilter(HttpEndpoint endpoint) {
+        return new TrackingFilter(endpoint, this);
+    }
+
+    /**
+     * Starts the background watchdog.
+     *
+     * @param correlationId (optional) transaction id to trace execution through call chain.
+     */
+    public void open(String correlationId) {
+        if (_timer != null)
+            return;
+
+        _timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "http-slow-request-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        _timer.scheduleAtFixedRate(this::check, _interval, _interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background watchdog and forgets all tracked requests.
+     *
+     * @param correlationId (optional) transaction id to trace execution through call chain.
+     */
+    public void close(String correlationId) {
+        if (_timer == null)
+            return;
+
+        _timer.shutdownNow();
+        _timer = null;
+        _requests.clear();
+    }
+
+    private void check() {
+        try {
+            long now = System.nanoTime();
+            long threshold = TimeUnit.MILLISECONDS.toNanos(_threshold);
+
+            for (var entry : _requests) {
+                long elapsed = now - entry.start;
+                if (elapsed < threshold)
+                    continue;
+
+                synchronized (entry) {
+                    if (entry.reported || entry.samples.size() >= _samples)
+                        continue;
+                }
+
+                // Capture outside of the lock, it stops the handler thread at a safepoint
+                var stack = entry.thread.getStackTrace();
+
+                boolean complete;
+                synchronized (entry) {
+                    if (entry.reported || entry.samples.size() >= _samples)
+                        continue;
+                    if (entry.samples.isEmpty())
+                        _counters.incrementOne("http.slow_requests");
+                    entry.samples.add(stack);
+                    entry.sampleTimes.add(TimeUnit.NANOSECONDS.toMillis(elapsed));
+                    complete = entry.samples.size() >= _samples;
+                }
+
+                if (complete)
+                    report(entry, false);
+            }
+        } catch (Exception ex) {
+            _logger.error(null, ex, "Failed to check slow requests");
+        }
+    }
+
+    private void report(InFlightRequest entry, boolean finished) {
+        String message;
+
+        synchronized (entry) {
+            if (entry.reported || entry.samples.isEmpty())
+                return;
+            entry.reported = true;
+
+            var builder = new StringBuilder();
+            builder.append("Slow request ").append(entry.method).append(' ').append(entry.route)
+                    .append(finished ? " completed in " : " is running for ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.start)).append(" ms")
+                    .append(" on thread ").append(entry.thread.getName());
+
+            for (int index = 0; index < entry.samples.size(); index++) {
+                builder.append("\nStack sample ").append(index + 1)
+                        .append(" at ").append(entry.sampleTimes.get(index)).append(" ms:");
+                for (var element : entry.samples.get(index))
+                    builder.append("\n\tat ").append(element);
+            }
+
+            message = builder.toString();
+        }
+
+        _logger.warn(entry.correlationId, "%s", message);
+    }
+}
@@ -2,7 +2,7 @@ package org.pipservices3.rpc.services;
 
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Response;
-import org.pipservices3.commons.convert.StringConverter;
+import org.pipservices3.commons.config.ConfigParams;
 import org.pipservices3.commons.errors.ConfigException;
 import org.pipservices3.commons.refer.Descriptor;
 import org.pipservices3.commons.refer.IReferences;
@@ -10,12 +10,11 @@ import org.pipservices3.commons.refer.ReferenceException;
 import org.pipservices3.components.info.ContextInfo;
 
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Map;
 import java.util.function.Function;
 
 public class StatusOperations extends RestOperations {
     private final ZonedDateTime _startTime = ZonedDateTime.now();
+    private final StatusSnapshot _snapshot = new StatusSnapshot(_startTime);
     private IReferences _references2;
     private ContextInfo _contextInfo;
 
@@ -23,6 +22,18 @@ public class StatusOperations extends RestOperations {
         this._dependencyResolver.put("context-info", new Descriptor("pip-services", "context-info", "default", "*", "1.0"));
     }
 
+    /**
+     * Configures component by passing configuration parameters.
+     *
+     * @param config configuration parameters to be set.
+     */
+    @Override
+    public void configure(ConfigParams config) throws ConfigException {
+        super.configure(config);
+
+        this._snapshot.setRefreshInterval(config.getAsLongWithDefault("refresh_interval", 10000));
+    }
+
     /**
      * Sets references to dependent components.
      *
@@ -33,6 +44,7 @@ public class StatusOperations extends RestOperations {
         super.setReferences(references);
 
         this._contextInfo = this._dependencyResolver.getOneOptional(ContextInfo.class, "context-info");
+        this._snapshot.update(references, this._contextInfo);
     }
 
     public Function<ContainerRequestContext, Response> getStatusOperation() {
@@ -46,29 +58,6 @@ public class StatusOperations extends RestOperations {
      * @return an HTTP response
      */
     public Response status(ContainerRequestContext req) {
-        var id = this._contextInfo != null ? this._contextInfo.getContextId() : "";
-        var name = this._contextInfo != null ? this._contextInfo.getName() : "Unknown";
-        var description = this._contextInfo != null ? this._contextInfo.getDescription() : "";
-        var uptime = System.currentTimeMillis() - this._startTime.toInstant().toEpochMilli();
-        var properties = this._contextInfo != null ? this._contextInfo.getProperties() : "";
-
-        var components = new ArrayList<>();
-        if (this._references2 != null) {
-            for (var locator : this._references2.getAllLocators())
-                components.add(locator.toString());
-        }
-
-        var status = Map.of(
-                "id", id,
-                "name", name,
-                "description", description,
-                "start_time", StringConverter.toString(this._startTime),
-                "current_time", StringConverter.toString(ZonedDateTime.now()),
-                "uptime", uptime,
-                "properties", properties,
-                "components", components
-        );
-
-        return this.sendResult(status);
+        return this._snapshot.sendStatus();
     }
 }
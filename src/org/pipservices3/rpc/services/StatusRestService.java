@@ -5,19 +5,13 @@ import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.process.Inflector;
 import org.pipservices3.commons.config.ConfigParams;
-import org.pipservices3.commons.convert.StringConverter;
-import org.pipservices3.commons.data.StringValueMap;
 import org.pipservices3.commons.errors.ConfigException;
 import org.pipservices3.commons.refer.Descriptor;
 import org.pipservices3.commons.refer.IReferences;
 import org.pipservices3.commons.refer.ReferenceException;
-import org.pipservices3.commons.run.Parameters;
 import org.pipservices3.components.info.ContextInfo;
 
-import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Service that returns microservice status information via HTTP/REST protocol.
@@ -42,9 +36,10 @@ import java.util.List;
  * <ul>
  * <li>base_route:              base route for remote URI
  * <li>route:                   status route (default: "status")
+ * <li>refresh_interval:        interval in milliseconds to check changes in registered components (default: 10000)
  * <li>dependencies:
  *   <ul>
- *   <li>endpoint:              override for HTTP Endpoint dependency
+ *   <li>endpoint:              override for HTTP Endpoint dependency, set to "*:endpoint:admin:*:1.0" to serve it on {@link AdminHttpEndpoint}
  *   <li>controller:            override for Controller dependency
  *   </ul>
  * <li>connection(s):
@@ -84,6 +79,7 @@ import java.util.List;
  */
 public class StatusRestService extends RestService {
     private final ZonedDateTime _startTime = ZonedDateTime.now();
+    private final StatusSnapshot _snapshot = new StatusSnapshot(_startTime);
     private IReferences _references;
     private ContextInfo _contextInfo;
     private String _route = "status";
@@ -106,6 +102,7 @@ public class StatusRestService extends RestService {
         super.configure(config);
 
         _route = config.getAsStringWithDefault("route", _route);
+        _snapshot.setRefreshInterval(config.getAsLongWithDefault("refresh_interval", 10000));
     }
 
     /**
@@ -121,6 +118,19 @@ public class StatusRestService extends RestService {
         super.setReferences(references);
 
         _contextInfo = (ContextInfo) _dependencyResolver.getOneOptional("context-info");
+        _snapshot.update(_references, _contextInfo);
+    }
+
+    /**
+     * Unsets (clears) previously set references to dependent components.
+     */
+    @Override
+    public void unsetReferences() {
+        super.unsetReferences();
+
+        _references = null;
+        _contextInfo = null;
+        _snapshot.update(null, null);
     }
 
     /**
@@ -143,23 +153,7 @@ public class StatusRestService extends RestService {
      * @return res   an HTTP response
      */
     private Response status(ContainerRequestContext request) {
-        String id = _contextInfo != null ? _contextInfo.getContextId() : "";
-        String name = _contextInfo != null ? _contextInfo.getName() : "Unknown";
-        String description = _contextInfo != null ? _contextInfo.getDescription() : "";
-        long uptime = Duration.between(_startTime, ZonedDateTime.now()).toMillis();
-        StringValueMap properties = _contextInfo != null ? _contextInfo.getProperties() : null;
-
-        List<String> components = new ArrayList<>();
-        if (_references != null) {
-            for (Object locator : _references.getAllLocators())
-                components.add(locator.toString());
-        }
-
-        Parameters status = Parameters.fromTuples("id", id, "name", name, "description", description, "start_time",
-                StringConverter.toString(_startTime), "current_time", StringConverter.toString(ZonedDateTime.now()),
-                "uptime", uptime, "properties", properties, "components", components);
-
-        return sendResult(status);
+        return _snapshot.sendStatus();
     }
 
 }
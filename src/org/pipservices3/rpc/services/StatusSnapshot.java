@@ -0,0 +1,147 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.pipservices3.commons.convert.JsonConverter;
+import org.pipservices3.commons.convert.StringConverter;
+import org.pipservices3.commons.refer.IReferences;
+import org.pipservices3.components.info.ContextInfo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Pre-serialized container status document shared by {@link StatusRestService} and {@link StatusOperations}.
+ * <p>
+ * The static part of the document (context info and the list of registered components)
+ * is serialized once and kept as bytes. Only current time and uptime are appended on every request.
+ * The snapshot is rebuilt when references are set and revalidated against
+ * the registered locators not more often than the refresh interval.
+ */
+class StatusSnapshot {
+    private final long _startMillis;
+    private final String _encodedStartTime;
+
+    private long _refreshInterval = 10000;
+    private IReferences _references;
+    private ContextInfo _contextInfo;
+    private volatile Content _content;
+
+    private static class Content {
+        final List<Object> locators;
+        final byte[] prefix;
+        volatile long checkTime;
+
+        Content(List<Object> locators, byte[] prefix, long checkTime) {
+            this.locators = locators;
+            this.prefix = prefix;
+            this.checkTime = checkTime;
+        }
+    }
+
+    /**
+     * Creates a new status snapshot.
+     *
+     * @param startTime the time when container was started.
+     */
+    StatusSnapshot(ZonedDateTime startTime) {
+        _startMillis = startTime.toInstant().toEpochMilli();
+        _encodedStartTime = StringConverter.toString(startTime);
+    }
+
+    /**
+     * Sets the interval to revalidate the list of registered components.
+     *
+     * @param refreshInterval the interval in milliseconds.
+     */
+    void setRefreshInterval(long refreshInterval) {
+        _refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Sets the container references and context info and drops the current snapshot.
+     *
+     * @param references  the container references, can be null.
+     * @param contextInfo the container context info, can be null.
+     */
+    void update(IReferences references, ContextInfo contextInfo) {
+        _references = references;
+        _contextInfo = contextInfo;
+        _content = null;
+    }
+
+    /**
+     * Creates a response with the current status document.
+     *
+     * @return an HTTP response with serialized status.
+     */
+    Response sendStatus() {
+        byte[] content = getContent();
+        return Response.ok(content, MediaType.APPLICATION_JSON).build();
+    }
+
+    /**
+     * Gets serialized status document with the current time and uptime.
+     *
+     * @return the status document as UTF-8 JSON.
+     */
+    byte[] getContent() {
+        long now = System.currentTimeMillis();
+        Content content = getSnapshot(now);
+
+        byte[] suffix = (",\"current_time\":\"" + StringConverter.toString(ZonedDateTime.now())
+                + "\",\"uptime\":" + (now - _startMillis) + "}").getBytes(StandardCharsets.UTF_8);
+
+        byte[] result = new byte[content.prefix.length + suffix.length];
+        System.arraycopy(content.prefix, 0, result, 0, content.prefix.length);
+        System.arraycopy(suffix, 0, result, content.prefix.length, suffix.length);
+        return result;
+    }
+
+    private Content getSnapshot(long now) {
+        Content content = _content;
+
+        if (content != null && now - content.checkTime < _refreshInterval)
+            return content;
+
+        List<Object> locators = _references != null ? _references.getAllLocators() : List.of();
+        if (content != null && content.locators.equals(locators)) {
+            content.checkTime = now;
+            return content;
+        }
+
+        content = new Content(locators, serialize(locators), now);
+        _content = content;
+        return content;
+    }
+
+    private byte[] serialize(List<Object> locators) {
+        ContextInfo contextInfo = _contextInfo;
+
+        List<String> components = new ArrayList<>(locators.size());
+        for (Object locator : locators)
+            components.add(locator.toString());
+
+        var status = new LinkedHashMap<String, Object>();
+        status.put("id", contextInfo != null ? contextInfo.getContextId() : "");
+        status.put("name", contextInfo != null ? contextInfo.getName() : "Unknown");
+        status.put("description", contextInfo != null ? contextInfo.getDescription() : "");
+        status.put("start_time", _encodedStartTime);
+        status.put("properties", contextInfo != null ? contextInfo.getProperties() : null);
+        status.put("components", components);
+
+        String json;
+        try {
+            json = JsonConverter.toJson(status);
+        } catch (Exception ex) {
+            throw new RuntimeException("Failed to serialize status", ex);
+        }
+
+        // Remove the closing bracket to append dynamic fields
+        json = json.substring(0, json.lastIndexOf('}'));
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,240 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.process.Inflector;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.errors.ConfigException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Service that aggregates OpenAPI specifications of all services registered
+ * in it and serves them as one document via HTTP/REST protocol.
+ * <p>
+ * Services find this component by "*:swagger-service:*:*:1.0" dependency and register
+ * their specifications when swagger is enabled. Paths and other sections of registered YAML
+ * specifications are merged, the first registered definition wins for duplicated keys.
+ * <p>
+ * The merged document is built on the first request and cached together with its compressed form
+ * and ETag. It is rebuilt only when a registration is added or a service returns a different content.
+ * <p>
+ * ### Configuration parameters ###
+ * <ul>
+ * <li>base_route:              base route for remote URI
+ * <li>route:                   route of the merged specification (default: "swagger")
+ * <li>name:                    title of the merged specification (default: "Microservice")
+ * <li>description:             description of the merged specification
+ * <li>version:                 version of the merged specification (default: "1")
+ * <li>dependencies:
+ *   <ul>
+ *   <li>endpoint:              override for HTTP Endpoint dependency
+ *   </ul>
+ * <li>connection(s):
+ *   <ul>
+ *   <li>discovery_key:         (optional) a key to retrieve the connection from IDiscovery
+ *   <li>protocol:              connection protocol: http or https
+ *   <li>host:                  host name or IP address
+ *   <li>port:                  port number
+ *   <li>uri:                   resource URI or connection string with all parameters in it
+ *   </ul>
+ * </ul>
+ * <p>
+ * ### References ###
+ * <ul>
+ * <li>*:logger:*:*:1.0               (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/log/ILogger.html">ILogger</a> components to pass log messages
+ * <li>*:counters:*:*:1.0             (optional) <a href="https://pip-services3-java.github.io/pip-services3-components-java/org/pipservices3/components/count/ICounters.html">ICounters</a> components to pass collected measurements
+ * <li>*:endpoint:http:*:1.0          (optional) {@link HttpEndpoint} reference
+ * </ul>
+ * <p>
+ * ### Example ###
+ * <pre>
+ * {@code
+ * SwaggerService service = new SwaggerService();
+ * service.configure(ConfigParams.fromTuples(
+ *     "connection.protocol", "http",
+ *     "connection.host", "localhost",
+ *     "connection.port", 8080
+ * ));
+ *
+ * service.open("123");
+ * System.out.println("The merged specification is accessible at http://+:8080/swagger");
+ * }
+ * </pre>
+ *
+ * @see ISwaggerService
+ * @see RestService
+ */
+public class SwaggerService extends RestService implements ISwaggerService {
+    private final Map<String, Supplier<String>> _registrations = new LinkedHashMap<>();
+    private String _route = "swagger";
+    private String _name = "Microservice";
+    private String _description;
+    private String _version = "1";
+
+    private int _revision = 0;
+    private int _cachedRevision = -1;
+    private List<String> _cachedSources = List.of();
+    private CachedHttpContent _cached;
+
+    /**
+     * Configures component by passing configuration parameters.
+     *
+     * @param config configuration parameters to be set.
+     * @throws ConfigException when configuration is wrong.
+     */
+    @Override
+    public void configure(ConfigParams config) throws ConfigException {
+        super.configure(config);
+
+        _route = config.getAsStringWithDefault("route", _route);
+        _name = config.getAsStringWithDefault("name", _name);
+        _description = config.getAsStringWithDefault("description", _description);
+        _version = config.getAsStringWithDefault("version", _version);
+    }
+
+    /**
+     * Registers a service specification without content.
+     * It is kept for services that serve their specification only on their own route.
+     *
+     * @param baseRoute    the base route of the service.
+     * @param swaggerRoute the route of the service specification.
+     */
+    @Override
+    public void registerOpenApiSpec(String baseRoute, String swaggerRoute) {
+        registerOpenApiSpec(baseRoute, swaggerRoute, null);
+    }
+
+    /**
+     * Registers a service specification to be included into the merged document.
+     *
+     * @param baseRoute    the base route of the service.
+     * @param swaggerRoute the route of the service specification.
+     * @param content      a function that returns the specification content in YAML.
+     */
+    @Override
+    public synchronized void registerOpenApiSpec(String baseRoute, String swaggerRoute, Supplier<String> content) {
+        _registrations.put(baseRoute != null ? baseRoute : "", content);
+        _revision++;
+    }
+
+    /**
+     * Registers all service routes in HTTP endpoint.
+     */
+    @Override
+    public void register() {
+        registerRoute(HttpMethod.GET, _route, new Inflector<ContainerRequestContext, Response>() {
+            @Override
+            public Response apply(ContainerRequestContext request) {
+                try {
+                    return getContent().send(request);
+                } catch (Exception ex) {
+                    return sendError(ex);
+                }
+            }
+        });
+    }
+
+    private synchronized CachedHttpContent getContent() {
+        var sources = new ArrayList<String>(_registrations.size());
+        for (var content : _registrations.values()) {
+            var source = content != null ? content.get() : null;
+            if (source != null)
+                sources.add(source);
+        }
+
+        if (_cached != null && _cachedRevision == _revision && isSame(sources, _cachedSources))
+            return _cached;
+
+        _cached = new CachedHttpContent(mergeSpecs(sources), "application/x-yaml");
+        _cachedRevision = _revision;
+        _cachedSources = sources;
+        return _cached;
+    }
+
+    private static boolean isSame(List<String> sources1, List<String> sources2) {
+        if (sources1.size() != sources2.size())
+            return false;
+        // Services return the same cached instance while their specification does not change
+        for (var index = 0; index < sources1.size(); index++) {
+            if (sources1.get(index) != sources2.get(index))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Merges YAML specifications into one document.
+     * Header and info sections are generated from the configuration,
+     * entries of other top-level sections are collected from all specifications.
+     *
+     * @param specs the specifications to merge.
+     * @return the merged specification.
+     */
+    protected String mergeSpecs(List<String> specs) {
+        var sections = new LinkedHashMap<String, Map<String, StringBuilder>>();
+
+        for (var spec : specs) {
+            Map<String, StringBuilder> section = null;
+            StringBuilder entry = null;
+
+            for (var line : spec.split("\n")) {
+                if (line.isBlank())
+                    continue;
+
+                if (!line.startsWith(" ") && !line.startsWith("- ")) {
+                    var index = line.indexOf(':');
+                    var key = index > 0 ? line.substring(0, index).trim() : line.trim();
+                    var hasValue = index > 0 && !line.substring(index + 1).isBlank();
+
+                    // Header, info and scalar values are replaced by the merged document values
+                    section = key.equals("openapi") || key.equals("info") || hasValue
+                            ? null : sections.computeIfAbsent(key, k -> new LinkedHashMap<>());
+                    entry = null;
+                    continue;
+                }
+
+                if (section == null)
+                    continue;
+
+                var isEntryStart = line.startsWith("- ") || (line.startsWith("  ") && line.charAt(2) != ' ');
+                if (isEntryStart) {
+                    var text = line.trim();
+                    var index = text.indexOf(':');
+                    var key = text.startsWith("- ") || index < 0 ? text : text.substring(0, index);
+                    // The first definition wins
+                    entry = section.containsKey(key) ? null : new StringBuilder();
+                    if (entry != null)
+                        section.put(key, entry);
+                }
+
+                if (entry != null)
+                    entry.append(line).append('\n');
+            }
+        }
+
+        var builder = new StringBuilder();
+        builder.append("openapi: '3.0.2'\n");
+        builder.append("info:\n");
+        builder.append("  title: '").append(_name).append("'\n");
+        if (_description != null)
+            builder.append("  description: '").append(_description).append("'\n");
+        builder.append("  version: '").append(_version).append("'\n");
+
+        for (var section : sections.entrySet()) {
+            if (section.getValue().isEmpty())
+                continue;
+
+            builder.append(section.getKey()).append(":\n");
+            for (var entry : section.getValue().values())
+                builder.append(entry);
+        }
+
+        return builder.toString();
+    }
+}
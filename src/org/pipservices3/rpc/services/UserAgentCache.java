@@ -0,0 +1,126 @@
+package org.pipservices3.rpc.services;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded concurrent cache of parsed "user-agent" headers.
+ * <p>
+ * Lookups are lock-free. Every hit stamps the entry with a logical access time,
+ * and when the cache grows over its capacity the least recently used quarter
+ * of entries is evicted by a single thread while others keep reading.
+ * <p>
+ * ### Example ###
+ * <pre>
+ * {@code
+ * UserAgentInfo info = HttpRequestDetector.getUserAgentCache().get(userAgent);
+ * counters.incrementOne("http.requests." + info.getPlatform());
+ * }
+ * </pre>
+ *
+ * @see HttpRequestDetector
+ * @see UserAgentInfo
+ */
+public class UserAgentCache {
+    private final int _capacity;
+    private final Map<String, Entry> _entries = new ConcurrentHashMap<>();
+    private final AtomicLong _clock = new AtomicLong();
+    private final ReentrantLock _evictLock = new ReentrantLock();
+
+    private static class Entry {
+        final UserAgentInfo info;
+        volatile long accessTime;
+
+        Entry(UserAgentInfo info, long accessTime) {
+            this.info = info;
+            this.accessTime = accessTime;
+        }
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity the maximum number of cached user agents.
+     */
+    public UserAgentCache(int capacity) {
+        _capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * Gets the maximum number of cached user agents.
+     *
+     * @return the cache capacity.
+     */
+    public int getCapacity() {
+        return _capacity;
+    }
+
+    /**
+     * Gets the current number of cached user agents.
+     *
+     * @return the number of cached entries.
+     */
+    public int size() {
+        return _entries.size();
+    }
+
+    /**
+     * Gets information for the user agent parsing it on the first access.
+     *
+     * @param userAgent the value of "user-agent" header.
+     * @return the detected platform and browser.
+     */
+    public UserAgentInfo get(String userAgent) {
+        if (userAgent == null || userAgent.isEmpty())
+            return UserAgentInfo.UNKNOWN;
+
+        long now = _clock.incrementAndGet();
+        Entry entry = _entries.get(userAgent);
+        if (entry != null) {
+            entry.accessTime = now;
+            return entry.info;
+        }
+
+        UserAgentInfo info = HttpRequestDetector.parseUserAgent(userAgent);
+        _entries.put(userAgent, new Entry(info, now));
+
+        if (_entries.size() > _capacity)
+            evict();
+
+        return info;
+    }
+
+    /**
+     * Removes all cached user agents.
+     */
+    public void clear() {
+        _entries.clear();
+    }
+
+    private void evict() {
+        if (!_evictLock.tryLock())
+            return;
+
+        try {
+            int excess = _entries.size() - _capacity;
+            if (excess <= 0)
+                return;
+
+            // Evict down to 3/4 of capacity to amortize the scan
+            int target = excess + _capacity / 4;
+
+            var times = new ArrayList<Long>(_entries.size());
+            for (var entry : _entries.values())
+                times.add(entry.accessTime);
+            times.sort(null);
+
+            long threshold = times.get(Math.min(target, times.size()) - 1);
+            _entries.values().removeIf(entry -> entry.accessTime <= threshold);
+        } finally {
+            _evictLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.pipservices3.rpc.services;
+
+/**
+ * Client platform and browser detected from HTTP "user-agent" header.
+ *
+ * @see HttpRequestDetector
+ * @see UserAgentCache
+ */
+public final class UserAgentInfo {
+    /**
+     * Information returned when user agent is missing or not recognized.
+     */
+    public static final UserAgentInfo UNKNOWN = new UserAgentInfo("unknown", "unknown");
+
+    private final String _platform;
+    private final String _browser;
+
+    /**
+     * Creates a new instance of user agent information.
+     *
+     * @param platform the detected platform and version.
+     * @param browser  the detected browser.
+     */
+    public UserAgentInfo(String platform, String browser) {
+        _platform = platform;
+        _browser = browser;
+    }
+
+    /**
+     * Gets the detected platform and version, like "windows 10.0" or "android 12".
+     *
+     * @return the detected platform or "unknown".
+     */
+    public String getPlatform() {
+        return _platform;
+    }
+
+    /**
+     * Gets the detected browser, like "chrome" or "firefox".
+     *
+     * @return the detected browser.
+     */
+    public String getBrowser() {
+        return _browser;
+    }
+
+    @Override
+    public String toString() {
+        return _platform + " " + _browser;
+    }
+}
@@ -0,0 +1,237 @@
+package org.pipservices3.rpc.clients;
+
+import com.sun.net.httpserver.HttpServer;
+import jakarta.ws.rs.HttpMethod;
+import org.junit.Test;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.errors.ApplicationException;
+import org.pipservices3.commons.errors.ConnectionException;
+import org.pipservices3.commons.refer.References;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CircuitBreakerTest {
+    private static final int Port = 3022;
+
+    private static class FailingRestClient extends RestClient {
+        public String get(String route) throws ApplicationException {
+            return call(String.class, null, HttpMethod.GET, route, null);
+        }
+    }
+
+    private static CircuitBreaker createBreaker() {
+        return new CircuitBreaker("test.circuit", ConfigParams.fromTuples(
+                "circuit_window", 10,
+                "circuit_min_calls", 4,
+                "circuit_failure_rate", 0.5,
+                "circuit_slow_call_time", 100,
+                "circuit_slow_call_rate", 0.5,
+                "circuit_open_timeout", 50,
+                "circuit_half_open_calls", 2
+        ), null);
+    }
+
+    @Test
+    public void testOpenOnFailureRate() {
+        var breaker = createBreaker();
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess(1);
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure(1);
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess(1);
+        assertEquals(CircuitBreaker.CLOSED, breaker.getState());
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure(1);
+        assertEquals(CircuitBreaker.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    public void testOpenOnSlowCallRate() {
+        var breaker = createBreaker();
+
+        for (var index = 0; index < 4; index++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onSuccess(index % 2 == 0 ? 200 : 1);
+        }
+
+        assertEquals(CircuitBreaker.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenProbes() throws InterruptedException {
+        var breaker = createBreaker();
+        for (var index = 0; index < 4; index++) {
+            breaker.tryAcquire();
+            breaker.onFailure(1);
+        }
+        assertFalse(breaker.tryAcquire());
+
+        Thread.sleep(100);
+
+        // Only a limited number of probes is let through
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess(1);
+        breaker.onSuccess(1);
+        assertEquals(CircuitBreaker.CLOSED, breaker.getState());
+
+        // A failing probe opens the circuit again
+        for (var index = 0; index < 4; index++) {
+            breaker.tryAcquire();
+            breaker.onFailure(1);
+        }
+        Thread.sleep(100);
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure(1);
+        assertEquals(CircuitBreaker.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testReleaseAbandonedProbe() throws InterruptedException {
+        var breaker = createBreaker();
+        for (var index = 0; index < 4; index++) {
+            breaker.tryAcquire();
+            breaker.onFailure(1);
+        }
+        Thread.sleep(100);
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        // A cancelled probe gives its place to another one
+        breaker.release();
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.HALF_OPEN, breaker.getState());
+    }
+
+    private static HttpServer startServer(int status, AtomicInteger requests) throws IOException {
+        return startServer(status, requests, 1);
+    }
+
+    /**
+     * Starts a server that fails every n-th request starting from the first one
+     * and answers other requests with "OK".
+     */
+    private static HttpServer startServer(int status, AtomicInteger requests, int failEvery) throws IOException {
+        var server = HttpServer.create(new InetSocketAddress("localhost", Port), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            var failed = (requests.getAndIncrement() % failEvery) == 0;
+            var body = (failed
+                    ? "{\"category\":\"Unknown\",\"code\":\"FAILED\",\"status\":" + status + ",\"message\":\"Request failed\"}"
+                    : "OK").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", failed ? "application/json" : "text/plain");
+            if (failed)
+                exchange.getResponseHeaders().add("Retry-After", "1");
+            exchange.sendResponseHeaders(failed ? status : 200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+
+    private static FailingRestClient createClient(Object... options) throws ApplicationException {
+        var client = new FailingRestClient();
+        client.configure(ConfigParams.fromTuples(
+                "connection.protocol", "http",
+                "connection.host", "localhost",
+                "connection.port", Port,
+                "options.retries", 0,
+                "options.circuit_breaker", true,
+                "options.circuit_min_calls", 2,
+                "options.circuit_open_timeout", 60000
+        ).override(ConfigParams.fromTuples(options)));
+        client.setReferences(new References());
+        client.open(null);
+        return client;
+    }
+
+    private static void callFailing(FailingRestClient client) {
+        try {
+            client.get("/failing");
+            fail("Expected request error");
+        } catch (ApplicationException ex) {
+            assertEquals("FAILED", ex.getCode());
+        }
+    }
+
+    @Test
+    public void testRestClientCircuit() throws Exception {
+        var requests = new AtomicInteger();
+        var server = startServer(503, requests);
+        var client = createClient();
+        try {
+            callFailing(client);
+            callFailing(client);
+
+            // Open circuit fails fast without calling the server
+            try {
+                client.get("/failing");
+                fail("Expected open circuit error");
+            } catch (ConnectionException ex) {
+                assertEquals("CIRCUIT_OPEN", ex.getCode());
+            }
+            assertEquals(2, requests.get());
+        } finally {
+            client.close(null);
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testApplicationErrorsKeepCircuitClosed() throws Exception {
+        var requests = new AtomicInteger();
+        var server = startServer(500, requests);
+        var client = createClient();
+        try {
+            // Application errors come from a healthy endpoint
+            for (var index = 0; index < 4; index++)
+                callFailing(client);
+            assertEquals(4, requests.get());
+        } finally {
+            client.close(null);
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testRetryBackoffIsNotSlow() throws Exception {
+        var requests = new AtomicInteger();
+        // The first attempt of every call fails and Retry-After delays the retry by the maximum delay
+        var server = startServer(503, requests, 2);
+        var client = createClient(
+                "options.retries", 1,
+                "options.retry_delay", 300,
+                "options.retry_max_delay", 300,
+                "options.circuit_slow_call_time", 200,
+                "options.circuit_slow_call_rate", 0.5,
+                "options.circuit_failure_rate", 1
+        );
+        try {
+            for (var index = 0; index < 2; index++)
+                assertEquals("OK", client.get("/failing"));
+            assertEquals(4, requests.get());
+
+            // Only the fast last attempts are recorded, so the circuit stays closed
+            var breaker = client._circuitBreakers.values().iterator().next();
+            assertEquals(CircuitBreaker.CLOSED, breaker.getState());
+        } finally {
+            client.close(null);
+            server.stop(0);
+        }
+    }
+}
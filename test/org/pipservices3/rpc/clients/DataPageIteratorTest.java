@@ -0,0 +1,97 @@
+package org.pipservices3.rpc.clients;
+
+import org.junit.Test;
+import org.pipservices3.commons.data.DataPage;
+import org.pipservices3.commons.data.PagingParams;
+import org.pipservices3.commons.errors.NotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class DataPageIteratorTest {
+    private final List<Integer> _items = new ArrayList<>();
+    private final AtomicInteger _requests = new AtomicInteger();
+    private final AtomicInteger _inFlight = new AtomicInteger();
+    private final AtomicInteger _maxInFlight = new AtomicInteger();
+
+    public DataPageIteratorTest() {
+        for (var index = 0; index < 25; index++)
+            _items.add(index);
+    }
+
+    private CompletableFuture<DataPage<Integer>> loadPage(PagingParams paging) {
+        _requests.incrementAndGet();
+        _maxInFlight.accumulateAndGet(_inFlight.incrementAndGet(), Math::max);
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            _inFlight.decrementAndGet();
+
+            var skip = (int) Math.min(paging.getSkip(0), _items.size());
+            var take = (int) Math.min(skip + paging.getTake(10), _items.size());
+            return new DataPage<>(new ArrayList<>(_items.subList(skip, take)));
+        });
+    }
+
+    @Test
+    public void testIterateAllItems() {
+        try (var iterator = new DataPageIterator<>(this::loadPage, 10, 2)) {
+            var result = iterator.stream().collect(Collectors.toList());
+            assertEquals(_items, result);
+            assertFalse(iterator.hasNext());
+        }
+
+        assertTrue(_maxInFlight.get() <= 2);
+        // Pages requested ahead of the last one are bounded by prefetch
+        assertTrue(_requests.get() <= 5);
+    }
+
+    @Test
+    public void testExactPages() {
+        _items.subList(20, 25).clear();
+
+        try (var iterator = new DataPageIterator<>(this::loadPage, 10, 1)) {
+            assertEquals(20, iterator.stream().count());
+        }
+        // The empty page after the last full page shows the end
+        assertEquals(3, _requests.get());
+    }
+
+    @Test
+    public void testClose() {
+        var iterator = new DataPageIterator<>(this::loadPage, 5, 3);
+        assertEquals(0, (int) iterator.next());
+
+        iterator.close();
+        assertTrue(iterator.isClosed());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testFailedPage() {
+        var iterator = new DataPageIterator<Integer>(paging -> paging.getSkip(0) == 0
+                ? loadPage(paging)
+                : CompletableFuture.failedFuture(new NotFoundException(null, "NOT_FOUND", "Page not found")), 10, 1);
+
+        for (var index = 0; index < 10; index++)
+            iterator.next();
+
+        try {
+            iterator.hasNext();
+            fail("Exception shall be raised");
+        } catch (CompletionException ex) {
+            assertTrue(ex.getCause() instanceof NotFoundException);
+        }
+        assertTrue(iterator.isClosed());
+    }
+}
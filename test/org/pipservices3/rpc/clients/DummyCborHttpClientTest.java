@@ -0,0 +1,101 @@
+package org.pipservices3.rpc.clients;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+import org.pipservices3.commons.config.*;
+import org.pipservices3.commons.errors.*;
+import org.pipservices3.commons.refer.*;
+import org.pipservices3.rpc.*;
+import org.pipservices3.rpc.services.*;
+
+public class DummyCborHttpClientTest {
+
+    private static final ConfigParams RestConfig = ConfigParams.fromTuples(
+            "connection.protocol", "http",
+            "connection.host", "localhost",
+            "connection.port", 3014
+    );
+
+    private DummyCommandableHttpClient _client;
+    private DummyClientFixture _fixture;
+    private DummyCommandableHttpService _service;
+
+    @Before
+    public void setUp() throws Exception {
+        var ctrl = new DummyController();
+
+        _service = new DummyCommandableHttpService();
+        _client = new DummyCommandableHttpClient();
+
+        _service.configure(RestConfig);
+        _client.configure(RestConfig.override(ConfigParams.fromTuples("options.codec", "cbor")));
+
+        References references = References.fromTuples(
+                new Descriptor("pip-services-dummies", "controller", "default", "default", "1.0"), ctrl,
+                new Descriptor("pip-services-dummies", "service", "rest", "default", "1.0"), _service
+        );
+
+        _client.setReferences(references);
+        _service.setReferences(references);
+
+        _service.open(null);
+        _client.open(null);
+
+        _fixture = new DummyClientFixture(_client);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        _client.close(null);
+        _service.close(null);
+    }
+
+    @Test
+    public void testCodecNegotiation() {
+        assertNotNull(HttpCodecs.get("cbor"));
+        assertSame(HttpCodecs.get("cbor"), HttpCodecs.negotiate("application/json;q=0.5, application/cbor"));
+        assertNull(HttpCodecs.negotiate("application/json"));
+        assertNull(HttpCodecs.negotiate("*/*"));
+    }
+
+    @Test
+    public void testVaryHeader() {
+        Client client = ClientBuilder.newClient();
+        try (Response response = client.target("http://localhost:3014/dummy/get_dummies")
+                .request(HttpCodecs.APPLICATION_CBOR)
+                .post(Entity.entity("{}", MediaType.APPLICATION_JSON))) {
+            assertEquals(200, response.getStatus());
+            assertEquals(HttpCodecs.APPLICATION_CBOR, response.getMediaType().toString());
+            assertTrue(response.getHeaderString(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testCrudOperations() throws ApplicationException {
+        _fixture.testCrudOperations();
+    }
+
+    @Test
+    public void testExceptionPropagation() {
+        ApplicationException err = null;
+        try {
+            _client.raiseException("123");
+        } catch (ApplicationException ex) {
+            err = ex;
+        }
+
+        assertNotNull(err);
+        assertEquals("TEST_ERROR", err.getCode());
+    }
+
+}
@@ -0,0 +1,73 @@
+package org.pipservices3.rpc.clients;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+import org.pipservices3.commons.config.*;
+import org.pipservices3.commons.errors.*;
+import org.pipservices3.commons.refer.*;
+import org.pipservices3.rpc.*;
+import org.pipservices3.rpc.services.*;
+
+public class DummyCommandableGrpcClientTest {
+
+    private static final ConfigParams GrpcConfig = ConfigParams.fromTuples(
+            "connection.protocol", "inproc",
+            "connection.host", "dummy-grpc",
+            "connection.port", 3015
+    );
+
+    private DummyCommandableGrpcClient _client;
+    private DummyClientFixture _fixture;
+    private DummyCommandableGrpcService _service;
+
+    @Before
+    public void setUp() throws Exception {
+        var ctrl = new DummyController();
+
+        _service = new DummyCommandableGrpcService();
+        _client = new DummyCommandableGrpcClient();
+
+        _service.configure(GrpcConfig);
+        _client.configure(GrpcConfig);
+
+        References references = References.fromTuples(
+                new Descriptor("pip-services-dummies", "controller", "default", "default", "1.0"), ctrl,
+                new Descriptor("pip-services-dummies", "service", "grpc", "default", "1.0"), _service
+        );
+
+        _client.setReferences(references);
+        _service.setReferences(references);
+
+        _service.open(null);
+        _client.open(null);
+
+        _fixture = new DummyClientFixture(_client);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        _client.close(null);
+        _service.close(null);
+    }
+
+    @Test
+    public void testCrudOperations() throws ApplicationException {
+        _fixture.testCrudOperations();
+    }
+
+    @Test
+    public void testExceptionPropagation() {
+        ApplicationException err = null;
+        try {
+            _client.raiseException("123");
+        } catch (ApplicationException ex) {
+            err = ex;
+        }
+
+        assertNotNull(err);
+        assertEquals("TEST_ERROR", err.getCode());
+    }
+
+}
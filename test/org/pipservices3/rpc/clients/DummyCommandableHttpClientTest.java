@@ -4,9 +4,17 @@ import org.junit.*;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import jakarta.ws.rs.core.GenericType;
 import org.pipservices3.commons.config.*;
+import org.pipservices3.commons.data.DataPage;
 import org.pipservices3.commons.errors.*;
 import org.pipservices3.commons.refer.*;
+import org.pipservices3.commons.run.*;
 import org.pipservices3.rpc.*;
 import org.pipservices3.rpc.services.*;
 
@@ -15,7 +23,10 @@ public class DummyCommandableHttpClientTest {
     private static final ConfigParams RestConfig = ConfigParams.fromTuples(
             "connection.protocol", "http",
             "connection.host", "localhost",
-            "connection.port", 3000
+            "connection.port", 3000,
+            "batch.enable", true,
+            // A single batch thread makes parallel entries overflow to the request thread
+            "batch.max_threads", 1
     );
 
     private DummyController _ctrl;
@@ -58,6 +69,70 @@ public class DummyCommandableHttpClientTest {
         _fixture.testCrudOperations();
     }
 
+    @Test
+    public void testAsyncCalls() throws Exception {
+        var futures = new ArrayList<CompletableFuture<Dummy>>();
+        for (var index = 0; index < 5; index++) {
+            var dummy = new Dummy(null, "Key " + index, "Content " + index, new ArrayList<>());
+            futures.add(_client.callCommandAsync(Dummy.class, "create_dummy", "123",
+                    Parameters.fromTuples("dummy", dummy)));
+        }
+
+        for (var future : futures) {
+            var dummy = future.get();
+            assertNotNull(dummy);
+            assertNotNull(dummy.getId());
+        }
+
+        var future = _client.callCommandAsync(Object.class, "raise_exception", "123", null);
+        try {
+            future.get();
+            fail("Exception shall be raised");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof ApplicationException);
+            assertEquals("TEST_ERROR", ((ApplicationException) ex.getCause()).getCode());
+        }
+    }
+
+    @Test
+    public void testPagedIteration() throws ApplicationException {
+        for (var index = 0; index < 7; index++)
+            _client.createDummy("123", new Dummy(null, "Key " + index, "Content " + index, new ArrayList<>()));
+
+        try (var dummies = _client.callCommandPages(new GenericType<DataPage<Dummy>>() {
+        }, "get_dummies", "123", null, 3, 2)) {
+            assertEquals(7, dummies.stream().count());
+        }
+    }
+
+    @Test
+    public void testPagedIterationClose() throws Exception {
+        for (var index = 0; index < 7; index++)
+            _client.createDummy("123", new Dummy(null, "Key " + index, "Content " + index, new ArrayList<>()));
+
+        var client = new DummyCommandableHttpClient();
+        client.configure(RestConfig.override(ConfigParams.fromTuples(
+                "options.connector", "apache",
+                "options.max_per_route", 5
+        )));
+        client.setReferences(new References());
+        client.open(null);
+        try {
+            try (var dummies = client.callCommandPages(new GenericType<DataPage<Dummy>>() {
+            }, "get_dummies", "123", null, 2, 3)) {
+                assertTrue(dummies.hasNext());
+                dummies.next();
+            }
+
+            // Responses of abandoned pages are closed and their connections returned to the pool
+            for (var retry = 0; retry < 50 && client._pool.getLeased() > 0; retry++)
+                Thread.sleep(100);
+            assertEquals(0, client._pool.getLeased());
+        } finally {
+            client.close(null);
+        }
+    }
+
     @Test
     public void testExceptionPropagation() {
         ApplicationException err = null;
@@ -72,4 +147,28 @@ public class DummyCommandableHttpClientTest {
         assertEquals(err.getCode(), "TEST_ERROR");
     }
 
+    @Test
+    public void testBatch() throws ApplicationException {
+        var dummy = _client.createDummy(null, new Dummy(null, "Key 1", "Content 1", new ArrayList<>()));
+
+        for (var parallel : new boolean[]{false, true}) {
+            var results = _client.callCommands(List.of(
+                    new BatchCommand("get_dummy_by_id", Parameters.fromTuples("dummy_id", dummy.getId())),
+                    new BatchCommand("raise_exception", null),
+                    new BatchCommand("wrong_command", null)
+            ), "123", parallel);
+
+            assertEquals(3, results.size());
+
+            assertTrue(results.get(0).isSuccess());
+            assertEquals(dummy.getId(), results.get(0).getResultAs(Dummy.class).getId());
+
+            assertFalse(results.get(1).isSuccess());
+            assertEquals("TEST_ERROR", results.get(1).getError().getCode());
+
+            assertFalse(results.get(2).isSuccess());
+            assertEquals("COMMAND_NOT_FOUND", results.get(2).getError().getCode());
+        }
+    }
+
 }
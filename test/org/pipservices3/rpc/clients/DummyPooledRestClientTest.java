@@ -0,0 +1,65 @@
+package org.pipservices3.rpc.clients;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.errors.ApplicationException;
+import org.pipservices3.commons.refer.Descriptor;
+import org.pipservices3.commons.refer.References;
+import org.pipservices3.rpc.DummyController;
+import org.pipservices3.rpc.services.DummyRestService;
+
+import static org.junit.Assert.*;
+
+public class DummyPooledRestClientTest {
+    private static final ConfigParams RestConfig = ConfigParams.fromTuples(
+            "connection.protocol", "http",
+            "connection.host", "localhost",
+            "connection.port", 3017,
+            "options.connector", "apache",
+            "options.max_connections", 10,
+            "options.max_per_route", 5,
+            "options.idle_timeout", 5000
+    );
+
+    private DummyRestService _service;
+    private DummyRestClient _client;
+    private DummyClientFixture _fixture;
+
+    @Before
+    public void setUp() throws ApplicationException {
+        var ctrl = new DummyController();
+
+        _service = new DummyRestService();
+        _service.configure(RestConfig);
+        _service.setReferences(References.fromTuples(
+                new Descriptor("pip-services-dummies", "controller", "default", "default", "1.0"), ctrl
+        ));
+        _service.open(null);
+
+        _client = new DummyRestClient();
+        _client.configure(RestConfig);
+        _client.setReferences(new References());
+        _client.open(null);
+
+        _fixture = new DummyClientFixture(_client);
+    }
+
+    @After
+    public void tearDown() throws ApplicationException {
+        _client.close(null);
+        _service.close(null);
+    }
+
+    @Test
+    public void testCrudOperations() throws ApplicationException {
+        _fixture.testCrudOperations();
+
+        // Connections are returned to the pool and kept alive
+        assertNotNull(_client._pool);
+        assertEquals(0, _client._pool.getLeased());
+        assertTrue(_client._pool.getAvailable() > 0);
+        assertTrue(_client._pool.getAvailable() <= 5);
+    }
+}
@@ -0,0 +1,143 @@
+package org.pipservices3.rpc.clients;
+
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.client.ClientConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.data.FilterParams;
+import org.pipservices3.commons.data.PagingParams;
+import org.pipservices3.commons.errors.ApplicationException;
+import org.pipservices3.commons.refer.Descriptor;
+import org.pipservices3.commons.refer.References;
+import org.pipservices3.rpc.DummyController;
+import org.pipservices3.rpc.services.DummyCommandableHttpService;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks HTTP connectors of commandable clients under concurrent calls.
+ * <p>
+ * The embedded JDK HTTP server speaks only HTTP/1.1, so "http2" connector falls back
+ * to persistent HTTP/1.1 connections here. Multiplexing is visible against HTTP/2 servers.
+ */
+public class HttpConnectorTest {
+    private static final int THREADS = 8;
+    private static final int CALLS = 50;
+
+    private static final ConfigParams RestConfig = ConfigParams.fromTuples(
+            "connection.protocol", "http",
+            "connection.host", "localhost",
+            "connection.port", 3018
+    );
+
+    private DummyCommandableHttpService _service;
+
+    @Before
+    public void setUp() throws ApplicationException {
+        _service = new DummyCommandableHttpService();
+        _service.configure(RestConfig);
+        _service.setReferences(References.fromTuples(
+                new Descriptor("pip-services-dummies", "controller", "default", "default", "1.0"), new DummyController()
+        ));
+        _service.open(null);
+    }
+
+    @After
+    public void tearDown() throws ApplicationException {
+        _service.close(null);
+    }
+
+    private DummyCommandableHttpClient createClient(String connector) throws ApplicationException {
+        var client = new DummyCommandableHttpClient();
+        client.configure(RestConfig.override(ConfigParams.fromTuples("options.connector", connector)));
+        client.setReferences(new References());
+        client.open(null);
+        return client;
+    }
+
+    private void callConcurrently(DummyCommandableHttpClient client) throws Exception {
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var tasks = new ArrayList<Callable<Integer>>();
+            for (var thread = 0; thread < THREADS; thread++) {
+                tasks.add(() -> {
+                    var count = 0;
+                    for (var call = 0; call < CALLS; call++) {
+                        client.getDummies(null, new FilterParams(), new PagingParams());
+                        count++;
+                    }
+                    return count;
+                });
+            }
+
+            for (var result : executor.invokeAll(tasks))
+                assertEquals(CALLS, (int) result.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testHttp2Connector() throws ApplicationException {
+        var client = createClient("http2");
+        try {
+            new DummyClientFixture(client).testCrudOperations();
+        } finally {
+            client.close(null);
+        }
+    }
+
+    @Test
+    public void testEmptyResponses() throws ApplicationException {
+        for (var connector : new String[]{"default", "apache", "http2"}) {
+            var client = createClient(connector);
+            try {
+                // Missing objects are returned with 204 status and no body
+                assertNull(client.getDummyById(null, "missing"));
+            } finally {
+                client.close(null);
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentCalls() throws Exception {
+        for (var connector : new String[]{"default", "apache", "http2"}) {
+            var client = createClient(connector);
+            try {
+                callConcurrently(client);
+
+                // Pooled connections are returned after every call
+                if (client._pool != null)
+                    assertEquals(0, client._pool.getLeased());
+            } finally {
+                client.close(null);
+            }
+        }
+    }
+
+    @Test
+    public void testHttp2ConnectorClose() throws Exception {
+        var provider = new JdkHttpConnectorProvider(1000, 1000);
+        var config = new ClientConfig().connectorProvider(provider);
+        var client = ClientBuilder.newClient(config);
+
+        try (Response response = client.target("http://localhost:3018/dummy/get_dummies").request()
+                .post(Entity.json("{}"))) {
+            assertEquals(200, response.getStatus());
+        }
+        assertFalse(provider.isClosed());
+
+        // Closing Jersey client releases HttpClient of the connector
+        client.close();
+        assertTrue(provider.isClosed());
+    }
+}
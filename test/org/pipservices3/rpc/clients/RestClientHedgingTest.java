@@ -0,0 +1,144 @@
+package org.pipservices3.rpc.clients;
+
+import com.sun.net.httpserver.HttpServer;
+import jakarta.ws.rs.HttpMethod;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.errors.ApplicationException;
+import org.pipservices3.commons.refer.Descriptor;
+import org.pipservices3.commons.refer.References;
+import org.pipservices3.components.count.CachedCounters;
+import org.pipservices3.components.count.Counter;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class RestClientHedgingTest {
+    private static final int Port = 3020;
+
+    private HttpServer _server;
+    private ExecutorService _executor;
+    private final AtomicInteger _requests = new AtomicInteger();
+    private final AtomicBoolean _stall = new AtomicBoolean();
+    private final CachedCounters _counters = new CachedCounters() {
+        @Override
+        protected void save(List<Counter> counters) {
+        }
+    };
+
+    private static class HedgedRestClient extends RestClient {
+        public String get(String route) throws ApplicationException {
+            return call(String.class, null, HttpMethod.GET, route, null);
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        _executor = Executors.newCachedThreadPool();
+        _server = HttpServer.create(new InetSocketAddress("localhost", Port), 0);
+        _server.setExecutor(_executor);
+        _server.createContext("/", exchange -> {
+            _requests.incrementAndGet();
+            // Only one request stalls, like a replica in a GC pause
+            if (_stall.compareAndSet(true, false)) {
+                try {
+                    Thread.sleep(2000);
+                } catch (InterruptedException ex) {
+                    // Stop waiting
+                }
+            }
+            var body = "OK".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        _server.start();
+    }
+
+    @After
+    public void tearDown() {
+        _server.stop(0);
+        _executor.shutdownNow();
+    }
+
+    private int getCount(String name) {
+        for (var counter : _counters.getAll()) {
+            if (counter.getName().equals(name))
+                return counter.getCount() != null ? counter.getCount() : 0;
+        }
+        return 0;
+    }
+
+    @Test
+    public void testHedgedRequests() throws Exception {
+        var client = new HedgedRestClient();
+        client.configure(ConfigParams.fromTuples(
+                "connection.protocol", "http",
+                "connection.host", "localhost",
+                "connection.port", Port,
+                "options.hedge", true,
+                "options.hedge_max_rate", 1,
+                "options.hedge_min_delay", 50,
+                "options.connector", "apache"
+        ));
+        client.setReferences(References.fromTuples(
+                new Descriptor("pip-services", "counters", "test", "default", "1.0"), _counters
+        ));
+        client.open(null);
+
+        try {
+            // Collect latencies before hedging starts
+            for (var index = 0; index < 100; index++)
+                assertEquals("OK", client.get("/hedged"));
+            assertTrue(client._latencyTracker.getValue() >= 0);
+
+            _requests.set(0);
+            _stall.set(true);
+
+            var start = System.currentTimeMillis();
+            assertEquals("OK", client.get("/hedged"));
+            var elapsed = System.currentTimeMillis() - start;
+
+            assertTrue(elapsed < 2000);
+            assertEquals(2, _requests.get());
+
+            // The win is counted after the caller is released
+            for (var retry = 0; retry < 50 && getCount("rest_client.hedge.wins") == 0; retry++)
+                Thread.sleep(10);
+
+            // The hedged request won and the stalled one lost
+            assertEquals(1, getCount("rest_client.hedge.sent"));
+            assertEquals(1, getCount("rest_client.hedge.wins"));
+
+            // The late response of the losing request is closed and its connection released
+            for (var retry = 0; retry < 50 && client._pool.getLeased() > 0; retry++)
+                Thread.sleep(100);
+            assertEquals(0, client._pool.getLeased());
+        } finally {
+            client.close(null);
+        }
+    }
+
+    @Test
+    public void testLatencyTracker() {
+        var tracker = new LatencyTracker(100, 0.95, 10);
+        assertEquals(-1, tracker.getValue());
+
+        for (var latency = 1; latency <= 100; latency++)
+            tracker.record(latency);
+
+        assertEquals(100, tracker.getCount());
+        assertEquals(95, tracker.getValue());
+    }
+}
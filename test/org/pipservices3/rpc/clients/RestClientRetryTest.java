@@ -0,0 +1,168 @@
+package org.pipservices3.rpc.clients;
+
+import com.sun.net.httpserver.HttpServer;
+import jakarta.ws.rs.HttpMethod;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.errors.ApplicationException;
+import org.pipservices3.commons.refer.References;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class RestClientRetryTest {
+    private static final int Port = 3019;
+
+    private HttpServer _server;
+    private final AtomicInteger _requests = new AtomicInteger();
+    private final AtomicInteger _failures = new AtomicInteger();
+
+    private static class FlakyRestClient extends RestClient {
+        public String get(String route) throws ApplicationException {
+            return call(String.class, null, HttpMethod.GET, route, null);
+        }
+
+        public String post(String route) throws ApplicationException {
+            return call(String.class, null, HttpMethod.POST, route, "{}");
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        _server = HttpServer.create(new InetSocketAddress("localhost", Port), 0);
+        _server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            _requests.incrementAndGet();
+            var unavailable = _failures.getAndDecrement() > 0;
+            var body = (unavailable
+                    ? "{\"category\":\"NoResponse\",\"code\":\"UNAVAILABLE\",\"status\":503,\"message\":\"Service unavailable\"}"
+                    : "OK").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", unavailable ? "application/json" : "text/plain");
+            if (unavailable)
+                exchange.getResponseHeaders().add("Retry-After", "0");
+            exchange.sendResponseHeaders(unavailable ? 503 : 200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        _server.start();
+    }
+
+    @After
+    public void tearDown() {
+        _server.stop(0);
+    }
+
+    private FlakyRestClient createClient(Object... options) throws ApplicationException {
+        var config = ConfigParams.fromTuples(
+                "connection.protocol", "http",
+                "connection.host", "localhost",
+                "connection.port", Port,
+                "options.retries", 3,
+                "options.retry_delay", 10,
+                "options.retry_max_delay", 50
+        );
+        config = config.override(ConfigParams.fromTuples(options));
+
+        var client = new FlakyRestClient();
+        client.configure(config);
+        client.setReferences(new References());
+        client.open(null);
+        return client;
+    }
+
+    @Test
+    public void testRetryIdempotentRequests() throws ApplicationException {
+        var client = createClient();
+        try {
+            _failures.set(2);
+            assertEquals("OK", client.get("/flaky"));
+            assertEquals(3, _requests.get());
+        } finally {
+            client.close(null);
+        }
+    }
+
+    @Test
+    public void testNoRetryForPost() throws ApplicationException {
+        var client = createClient();
+        try {
+            _failures.set(1);
+            try {
+                client.post("/flaky");
+                fail("Expected service unavailable error");
+            } catch (ApplicationException ex) {
+                assertEquals("UNAVAILABLE", ex.getCode());
+            }
+            assertEquals(1, _requests.get());
+        } finally {
+            client.close(null);
+        }
+    }
+
+    @Test
+    public void testRetryIdempotentRoutes() throws ApplicationException {
+        var client = createClient("options.idempotent_routes", "flaky");
+        try {
+            _failures.set(1);
+            assertEquals("OK", client.post("/flaky"));
+            assertEquals(2, _requests.get());
+        } finally {
+            client.close(null);
+        }
+    }
+
+    @Test
+    public void testRetryBudgetSpentOnRetries() throws ApplicationException {
+        var client = createClient("options.retries", 2, "options.retry_budget", 0);
+        try {
+            _failures.set(100);
+            var available = client._retryBudget.getAvailable();
+            try {
+                client.get("/flaky");
+                fail("Expected service unavailable error");
+            } catch (ApplicationException ex) {
+                assertEquals("UNAVAILABLE", ex.getCode());
+            }
+            // The final failed attempt does not take a token
+            assertEquals(3, _requests.get());
+            assertEquals(available - 2, client._retryBudget.getAvailable());
+        } finally {
+            client.close(null);
+        }
+
+        client = createClient("options.retries", 0, "options.retry_budget", 0);
+        try {
+            var available = client._retryBudget.getAvailable();
+            try {
+                client.get("/flaky");
+                fail("Expected service unavailable error");
+            } catch (ApplicationException ex) {
+                assertEquals("UNAVAILABLE", ex.getCode());
+            }
+            assertEquals(available, client._retryBudget.getAvailable());
+        } finally {
+            client.close(null);
+        }
+    }
+
+    @Test
+    public void testRetryBudget() {
+        var budget = new RetryBudget(0.5, 2);
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+
+        // Two requests earn one retry
+        budget.deposit();
+        assertFalse(budget.tryWithdraw());
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+        assertEquals(0, budget.getAvailable());
+    }
+}
@@ -0,0 +1,79 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.client.*;
+import jakarta.ws.rs.core.*;
+
+import static org.junit.Assert.*;
+
+import org.glassfish.jersey.client.*;
+import org.glassfish.jersey.jackson.*;
+import org.junit.*;
+import org.pipservices3.commons.config.*;
+import org.pipservices3.commons.errors.*;
+import org.pipservices3.commons.refer.*;
+import org.pipservices3.components.info.*;
+
+import java.util.List;
+import java.util.Map;
+
+public class AboutRestServiceTest {
+    private AboutRestService _service;
+
+    static int port = 3013;
+
+    @Before
+    public void setUp() throws ApplicationException {
+        ConfigParams config = ConfigParams.fromTuples(
+                "connection.protocol", "http",
+                "connection.host", "localhost",
+                "connection.port", port
+        );
+        _service = new AboutRestService();
+        _service.configure(config);
+
+        ContextInfo contextInfo = new ContextInfo();
+        contextInfo.setName("Test");
+        contextInfo.setDescription("This is a test container");
+
+        References references = References.fromTuples(
+                new Descriptor("pip-services", "context-info", "default", "default", "1.0"), contextInfo,
+                new Descriptor("pip-services", "about-service", "http", "default", "1.0"), _service
+        );
+        _service.setReferences(references);
+
+        _service.open(null);
+    }
+
+    @After
+    public void tearDown() throws ApplicationException {
+        _service.close(null);
+    }
+
+    @Test
+    public void testAbout() throws Exception {
+        Map<?, ?> about = invoke(Map.class, "/about");
+        assertNotNull(about);
+
+        Map<?, ?> server = (Map<?, ?>) about.get("server");
+        assertEquals("Test", server.get("name"));
+        assertNotNull(server.get("host"));
+        assertTrue(server.get("addresses") instanceof List);
+        assertNotNull(server.get("current_time"));
+
+        Map<?, ?> client = (Map<?, ?>) about.get("client");
+        assertNotNull(client);
+    }
+
+    private static <T> T invoke(Class<T> responseClass, String route) throws Exception {
+        ClientConfig clientConfig = new ClientConfig();
+        clientConfig.register(new JacksonFeature());
+        Client httpClient = ClientBuilder.newClient(clientConfig);
+
+        try (Response response = httpClient.target("http://localhost:" + port + route)
+                .request(MediaType.APPLICATION_JSON)
+                .get()) {
+            return response.readEntity(responseClass);
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+import org.junit.*;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.refer.Descriptor;
+import org.pipservices3.commons.refer.References;
+
+import static org.junit.Assert.*;
+
+public class AdminHttpEndpointTest {
+    static int port = 3011;
+    static int adminPort = 3012;
+
+    private HttpEndpoint _endpoint;
+    private AdminHttpEndpoint _adminEndpoint;
+    private HeartbeatRestService _service;
+
+    @Before
+    public void setUp() throws Exception {
+        _endpoint = new HttpEndpoint();
+        _endpoint.configure(ConfigParams.fromTuples(
+                "connection.protocol", "http",
+                "connection.host", "localhost",
+                "connection.port", port
+        ));
+
+        _adminEndpoint = new AdminHttpEndpoint();
+        _adminEndpoint.configure(ConfigParams.fromTuples(
+                "connection.protocol", "http",
+                "connection.host", "localhost",
+                "connection.port", adminPort
+        ));
+
+        _service = new HeartbeatRestService();
+        _service.configure(ConfigParams.fromTuples(
+                "dependencies.endpoint", "*:endpoint:admin:*:1.0"
+        ));
+
+        var references = References.fromTuples(
+                new Descriptor("pip-services", "endpoint", "http", "default", "1.0"), _endpoint,
+                new Descriptor("pip-services", "endpoint", "admin", "default", "1.0"), _adminEndpoint,
+                new Descriptor("pip-services", "heartbeat-service", "http", "default", "1.0"), _service
+        );
+        _service.setReferences(references);
+
+        _endpoint.open(null);
+        _adminEndpoint.open(null);
+        _service.open(null);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        _service.close(null);
+        _adminEndpoint.close(null);
+        _endpoint.close(null);
+    }
+
+    @Test
+    public void testHeartbeatOnAdminPort() {
+        Client client = ClientBuilder.newClient();
+
+        try (Response response = client.target("http://localhost:" + adminPort + "/heartbeat").request().get()) {
+            assertEquals(200, response.getStatus());
+        }
+
+        try (Response response = client.target("http://localhost:" + port + "/heartbeat").request().get()) {
+            assertEquals(404, response.getStatus());
+        }
+
+        client.close();
+    }
+}
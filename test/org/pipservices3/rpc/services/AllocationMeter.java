@@ -0,0 +1,38 @@
+package org.pipservices3.rpc.services;
+
+import org.junit.Assume;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures bytes allocated by the current thread.
+ */
+class AllocationMeter {
+    private static final com.sun.management.ThreadMXBean _bean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Skips the calling test when the JVM does not track allocations per thread.
+     */
+    static void assumeSupported() {
+        Assume.assumeTrue(_bean.isThreadAllocatedMemorySupported() && _bean.isThreadAllocatedMemoryEnabled());
+    }
+
+    /**
+     * Measures average allocation of an action.
+     *
+     * @param iterations the number of times to run the action.
+     * @param action     the action to measure.
+     * @return the number of bytes allocated per run.
+     */
+    static long measure(int iterations, ThrowingRunnable action) throws Exception {
+        long start = _bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        for (var index = 0; index < iterations; index++)
+            action.run();
+        return (_bean.getThreadAllocatedBytes(Thread.currentThread().getId()) - start) / iterations;
+    }
+
+    interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,36 @@
+package org.pipservices3.rpc.services;
+
+import org.junit.Test;
+import org.pipservices3.commons.commands.Command;
+import org.pipservices3.commons.commands.ICommand;
+import org.pipservices3.commons.config.ConfigParams;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CommandableSwaggerDocumentTest {
+
+    @Test
+    public void testCachedDocument() {
+        List<ICommand> commands = new ArrayList<>();
+        commands.add(new Command("get_dummies", null, (correlationId, args) -> null));
+
+        var doc = new CommandableSwaggerDocument("dummy", ConfigParams.fromTuples("name", "Dummy"), commands);
+        var content = doc.toString();
+        assertTrue(content.contains("title: 'Dummy'"));
+        assertSame(content, doc.toString());
+
+        // Changes of document fields regenerate the document
+        doc.infoTitle = "Dummies";
+        content = doc.toString();
+        assertTrue(content.contains("title: 'Dummies'"));
+        assertSame(content, doc.toString());
+
+        // Changes of commands regenerate the document
+        commands.add(new Command("get_dummy", null, (correlationId, args) -> null));
+        content = doc.toString();
+        assertTrue(content.contains("/dummy/get_dummy:"));
+    }
+}
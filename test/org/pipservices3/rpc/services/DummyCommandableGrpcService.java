@@ -0,0 +1,12 @@
+package org.pipservices3.rpc.services;
+
+import org.pipservices3.commons.refer.Descriptor;
+
+public class DummyCommandableGrpcService extends CommandableGrpcService {
+
+    public DummyCommandableGrpcService() {
+        super("dummy");
+        _dependencyResolver.put("controller", new Descriptor("pip-services-dummies", "controller", "default", "*", "1.0"));
+    }
+
+}
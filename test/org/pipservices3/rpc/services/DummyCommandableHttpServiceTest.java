@@ -9,6 +9,9 @@ import jakarta.ws.rs.core.*;
 
 import org.glassfish.jersey.client.*;
 import org.glassfish.jersey.jackson.*;
+import org.pipservices3.commons.commands.Command;
+import org.pipservices3.commons.commands.CommandSet;
+import org.pipservices3.commons.commands.ICommandable;
 import org.pipservices3.commons.config.*;
 import org.pipservices3.commons.convert.JsonConverter;
 import org.pipservices3.commons.data.*;
@@ -20,6 +23,9 @@ import org.pipservices3.components.log.ConsoleLogger;
 import org.pipservices3.rpc.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 public class DummyCommandableHttpServiceTest {
     private final Dummy DUMMY1 = new Dummy(null, "Key 1", "Content 1",
@@ -184,6 +190,21 @@ public class DummyCommandableHttpServiceTest {
                 .request(MediaType.APPLICATION_JSON).get();
         var res = response.readEntity(String.class);
         assertTrue(res.startsWith("openapi"));
+
+        // Revalidate the cached document
+        var etag = response.getHeaderString(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        response = httpClient.target(url + "/dummy/swagger")
+                .request(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(304, response.getStatus());
+        response.close();
+
+        // Get compressed document
+        response = httpClient.target(url + "/dummy/swagger")
+                .request(MediaType.APPLICATION_JSON).header(HttpHeaders.ACCEPT_ENCODING, "gzip").get();
+        assertEquals("gzip", response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(etag, response.getHeaderString(HttpHeaders.ETAG));
+        response.close();
     }
 
     @Test
@@ -224,6 +245,126 @@ public class DummyCommandableHttpServiceTest {
         _service.close(null);
     }
 
+    @Test
+    public void testBatchRouteConflict() {
+        var service = new DummyCommandableHttpService();
+        try {
+            service.configure(restConfig.setDefaults(ConfigParams.fromTuples(
+                    "batch.enable", true,
+                    "batch.route", "get_dummies"
+            )));
+            service.setReferences(References.fromTuples(
+                    new Descriptor("pip-services-dummies", "controller", "default", "default", "1.0"), new DummyController()
+            ));
+            fail("Expected batch route conflict");
+        } catch (ApplicationException ex) {
+            assertEquals("BATCH_ROUTE_CONFLICT", ex.getCode());
+        }
+    }
+
+    @Test
+    public void testAsyncCommands() throws ApplicationException {
+        _service.close(null);
+
+        var commandSet = new CommandSet();
+        commandSet.addCommand(new Command("delayed_echo", null, (correlationId, args) ->
+                CompletableFuture.supplyAsync(() -> {
+                    try {
+                        Thread.sleep(args.getAsIntegerWithDefault("delay", 0));
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return args.getAsString("value");
+                })
+        ));
+        commandSet.addCommand(new Command("blocking_echo", null, (correlationId, args) -> args.getAsString("value")));
+        ICommandable ctrl = () -> commandSet;
+
+        // Request threads let the second request reach the offload executor while the first one waits
+        var config = restConfig.setDefaults(ConfigParams.fromTuples(
+                "options.max_threads", 4,
+                "async.timeout", 300,
+                "async.offload", "blocking_echo"
+        ));
+
+        _service = new DummyCommandableHttpService();
+        _service.configure(config);
+        _service.setReferences(References.fromTuples(
+                new Descriptor("pip-services-dummies", "controller", "default", "default", "1.0"), ctrl
+        ));
+        _service.open(null);
+
+        // Completed asynchronous result
+        var result = invoke(String.class, "/dummy/delayed_echo",
+                Parameters.fromTuples("value", "abc", "delay", 50));
+        assertEquals("abc", result);
+
+        // Offloaded command
+        result = invoke(String.class, "/dummy/blocking_echo", Parameters.fromTuples("value", "def"));
+        assertEquals("def", result);
+
+        // Timed out result
+        try (Response response = performInvoke("/dummy/delayed_echo",
+                Parameters.fromTuples("value", "abc", "delay", 2000))) {
+            assertEquals(504, response.getStatus());
+            var err = response.readEntity(ErrorDescription.class);
+            assertEquals("COMMAND_TIMEOUT", err.getCode());
+        }
+    }
+
+    @Test
+    public void testOffloadedCommandLimits() throws Exception {
+        _service.close(null);
+
+        var interrupted = new CountDownLatch(1);
+        var commandSet = new CommandSet();
+        commandSet.addCommand(new Command("sleep", null, (correlationId, args) -> {
+            try {
+                Thread.sleep(args.getAsIntegerWithDefault("delay", 0));
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return "done";
+        }));
+        ICommandable ctrl = () -> commandSet;
+
+        // Request threads let the second request reach the offload executor while the first one waits
+        var config = restConfig.setDefaults(ConfigParams.fromTuples(
+                "options.max_threads", 4,
+                "async.timeout", 300,
+                "async.offload", "*",
+                "async.max_threads", 1,
+                "async.queue_size", 0
+        ));
+
+        _service = new DummyCommandableHttpService();
+        _service.configure(config);
+        _service.setReferences(References.fromTuples(
+                new Descriptor("pip-services-dummies", "controller", "default", "default", "1.0"), ctrl
+        ));
+        _service.open(null);
+
+        // The only command thread is taken by a long command
+        var first = CompletableFuture.supplyAsync(() -> {
+            try (Response response = performInvoke("/dummy/sleep", Parameters.fromTuples("delay", 5000))) {
+                return response.getStatus();
+            }
+        });
+        Thread.sleep(100);
+
+        try (Response response = performInvoke("/dummy/sleep", Parameters.fromTuples("delay", 0))) {
+            assertEquals(503, response.getStatus());
+            assertEquals("COMMAND_REJECTED", response.readEntity(ErrorDescription.class).getCode());
+        }
+
+        // The timed out command is interrupted and frees its thread
+        assertEquals(504, (int) first.get());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        assertEquals("done", invoke(String.class, "/dummy/sleep", Parameters.fromTuples("delay", 0)));
+    }
+
     private static Response performInvoke(String route, Object entity, MultivaluedMap<String, Object> headers) {
         ClientConfig clientConfig = new ClientConfig();
         clientConfig.register(new JacksonFeature());
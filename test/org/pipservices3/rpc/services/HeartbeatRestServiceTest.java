@@ -44,6 +44,27 @@ public class HeartbeatRestServiceTest {
         assertNotNull(time);
         assertTrue(Duration.between(time, ZonedDateTime.now()).getSeconds() < 10);
     }
+
+	@Test
+    public void testFastPathHeartbeat() throws Exception {
+        _service.close(null);
+
+        _service = new HeartbeatRestService();
+        _service.configure(ConfigParams.fromTuples(
+            "connection.protocol", "http",
+            "connection.host", "localhost",
+            "connection.port", port,
+            "fast_path", true
+        ));
+        _service.open(null);
+
+        for (int index = 0; index < 3; index++) {
+            String value = invoke(String.class, "/heartbeat");
+            ZonedDateTime time = DateTimeConverter.toDateTime(value);
+            assertNotNull(time);
+            assertTrue(Duration.between(time, ZonedDateTime.now()).getSeconds() < 10);
+        }
+    }
 	
 	
 	private static <T> T invoke(Class<T> responseClass, String route) throws Exception {
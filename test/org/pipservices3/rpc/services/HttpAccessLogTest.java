@@ -0,0 +1,68 @@
+package org.pipservices3.rpc.services;
+
+import org.junit.*;
+import org.pipservices3.commons.config.ConfigParams;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+public class HttpAccessLogTest {
+    private File _file;
+
+    @Before
+    public void setUp() throws Exception {
+        _file = File.createTempFile("access", ".log");
+        _file.deleteOnExit();
+    }
+
+    @After
+    public void tearDown() {
+        _file.delete();
+    }
+
+    @Test
+    public void testWriteRecords() throws Exception {
+        var accessLog = new HttpAccessLog();
+        accessLog.configure(ConfigParams.fromTuples(
+                "options.access_log.enabled", true,
+                "options.access_log.target", "file",
+                "options.access_log.file", _file.getPath(),
+                "options.access_log.buffer_size", 4
+        ));
+
+        assertFalse(accessLog.append("GET", "/dummy", 200, 10, 1000, "123"));
+
+        accessLog.open(null);
+        for (var index = 0; index < 100; index++)
+            assertTrue(accessLog.append("GET", "/dummy/" + index, 200, 10, 1000, "123") || accessLog.getDroppedCount() > 0);
+        accessLog.close(null);
+
+        var lines = Files.readAllLines(_file.toPath());
+        assertEquals(100 - accessLog.getDroppedCount(), lines.size());
+        assertTrue(lines.get(0).contains(" GET /dummy/0 200 10 "));
+        assertTrue(lines.get(0).endsWith(" 123"));
+    }
+
+    @Test
+    public void testSampling() throws Exception {
+        var accessLog = new HttpAccessLog();
+        accessLog.configure(ConfigParams.fromTuples(
+                "options.access_log.enabled", true,
+                "options.access_log.target", "file",
+                "options.access_log.file", _file.getPath(),
+                "options.access_log.sample_rate", 0,
+                "options.access_log.drop_policy", "wait"
+        ));
+
+        accessLog.open(null);
+        assertFalse(accessLog.append("GET", "/dummy", 200, 10, 1000, null));
+        assertTrue(accessLog.append("GET", "/dummy", 500, 10, 1000, null));
+        accessLog.close(null);
+
+        var lines = Files.readAllLines(_file.toPath());
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith(" -"));
+    }
+}
@@ -0,0 +1,121 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+import org.junit.*;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.refer.Descriptor;
+import org.pipservices3.commons.refer.References;
+import org.pipservices3.rpc.DummyController;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks eager and early bound startup of HTTP endpoint with a commandable service.
+ */
+public class HttpEndpointStartupTest {
+    static int port = 3010;
+    private static final int ITERATIONS = 3;
+    private static final long READY_TIMEOUT = 10000;
+
+    private HttpEndpoint _endpoint;
+    private DummyCommandableHttpService _service;
+
+    @After
+    public void tearDown() throws Exception {
+        if (_service != null)
+            _service.close(null);
+        if (_endpoint != null)
+            _endpoint.close(null);
+    }
+
+    private void createEndpoint(boolean earlyBind) throws Exception {
+        _endpoint = new HttpEndpoint();
+        _endpoint.configure(ConfigParams.fromTuples(
+                "connection.protocol", "http",
+                "connection.host", "localhost",
+                "connection.port", port,
+                "options.early_bind", earlyBind
+        ));
+
+        _service = new DummyCommandableHttpService();
+        _service.configure(ConfigParams.fromTuples("swagger.enable", true));
+
+        var references = References.fromTuples(
+                new Descriptor("pip-services-dummies", "controller", "default", "default", "1.0"), new DummyController(),
+                new Descriptor("pip-services", "endpoint", "http", "default", "1.0"), _endpoint
+        );
+        _service.setReferences(references);
+    }
+
+    private int getStatus(Client client) {
+        try (Response response = client.target("http://localhost:" + port + "/dummy/swagger").request().get()) {
+            return response.getStatus();
+        }
+    }
+
+    @Test
+    public void testEagerStartup() throws Exception {
+        Client client = ClientBuilder.newClient();
+
+        for (var iteration = 0; iteration < ITERATIONS; iteration++) {
+            createEndpoint(false);
+            _endpoint.open(null);
+
+            // Eager open returns only when routes are served
+            assertTrue(_endpoint.isOpen());
+            assertTrue(_endpoint.isReady());
+            assertEquals(200, getStatus(client));
+
+            _endpoint.close(null);
+            assertFalse(_endpoint.isOpen());
+        }
+
+        client.close();
+    }
+
+    @Test
+    public void testEarlyBindStartup() throws Exception {
+        Client client = ClientBuilder.newClient();
+
+        for (var iteration = 0; iteration < ITERATIONS; iteration++) {
+            createEndpoint(true);
+            _endpoint.open(null);
+            assertTrue(_endpoint.isOpen());
+
+            // Requests get 503 until routes are initialized in background
+            var deadline = System.currentTimeMillis() + READY_TIMEOUT;
+            int status = getStatus(client);
+            while (status == 503 && System.currentTimeMillis() < deadline) {
+                assertTrue(_endpoint.isOpen());
+                Thread.sleep(10);
+                status = getStatus(client);
+            }
+
+            assertEquals(200, status);
+            assertTrue(_endpoint.isReady());
+
+            _endpoint.close(null);
+        }
+
+        client.close();
+    }
+
+    @Test
+    public void testEarlyBindFailure() throws Exception {
+        createEndpoint(true);
+        _endpoint.register(() -> {
+            throw new IllegalStateException("Registration failed");
+        });
+        _endpoint.open(null);
+
+        // Failed initialization closes the endpoint instead of serving 503 forever
+        var deadline = System.currentTimeMillis() + READY_TIMEOUT;
+        while (_endpoint.isOpen() && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+
+        assertFalse(_endpoint.isOpen());
+        assertFalse(_endpoint.isReady());
+    }
+}
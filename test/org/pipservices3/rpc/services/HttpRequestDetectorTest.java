@@ -0,0 +1,50 @@
+package org.pipservices3.rpc.services;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HttpRequestDetectorTest {
+
+    @Test
+    public void testParseUserAgent() {
+        var info = HttpRequestDetector.parseUserAgent(
+                "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
+        assertEquals("windows 10.0", info.getPlatform());
+        assertEquals("chrome", info.getBrowser());
+
+        info = HttpRequestDetector.parseUserAgent(
+                "Mozilla/5.0 (iPhone; CPU iPhone OS 16_5 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/16.5 Mobile/15E148 Safari/604.1");
+        assertEquals("iphone 16.5", info.getPlatform());
+        assertEquals("safari", info.getBrowser());
+
+        info = HttpRequestDetector.parseUserAgent(
+                "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) Gecko/20100101 Firefox/119.0");
+        assertEquals("mac 10.15.7", info.getPlatform());
+        assertEquals("firefox", info.getBrowser());
+
+        info = HttpRequestDetector.parseUserAgent(
+                "Mozilla/5.0 (Linux; Android 13; Pixel 7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Mobile Safari/537.36");
+        assertEquals("android 13", info.getPlatform());
+
+        assertSame(UserAgentInfo.UNKNOWN, HttpRequestDetector.parseUserAgent(null));
+    }
+
+    @Test
+    public void testUserAgentCache() {
+        var cache = new UserAgentCache(10);
+        var ua = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) Firefox/119.0";
+
+        var info = cache.get(ua);
+        assertSame(info, cache.get(ua));
+
+        for (var index = 0; index < 100; index++) {
+            cache.get("agent " + index);
+            cache.get(ua);
+        }
+
+        assertTrue(cache.size() <= cache.getCapacity());
+        // Frequently used entry survives eviction
+        assertSame(info, cache.get(ua));
+    }
+}
@@ -0,0 +1,61 @@
+package org.pipservices3.rpc.services;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that instrumentation with precomputed counter names does not build names on every call.
+ */
+public class InstrumentAllocationBenchmarkTest {
+    private static final int ITERATIONS = 100000;
+    private static final int ROUNDS = 5;
+
+    private static final RestService _service = new RestService() {
+        @Override
+        public void register() {
+        }
+    };
+
+    private static long measureDynamicNames(String baseRoute, String command) throws Exception {
+        return measureMin(() -> _service.instrument("123", baseRoute + '.' + command).endTiming());
+    }
+
+    private static long measurePrecomputedNames(InstrumentNames names) throws Exception {
+        return measureMin(() -> _service.instrument("123", names).endTiming());
+    }
+
+    // A round can catch the JIT recompiling the measured code, the smallest result is the steady state
+    private static long measureMin(AllocationMeter.ThrowingRunnable action) throws Exception {
+        var result = Long.MAX_VALUE;
+        for (var round = 0; round < ROUNDS; round++)
+            result = Math.min(result, AllocationMeter.measure(ITERATIONS, action));
+        return result;
+    }
+
+    @Test
+    public void testInstrumentNames() {
+        var names = new InstrumentNames("dummy.get_dummies", "exec");
+        assertEquals("dummy.get_dummies", names.getName());
+        assertEquals("dummy.get_dummies.exec_count", names.getCountName());
+        assertEquals("dummy.get_dummies.exec_time", names.getTimeName());
+        assertEquals("dummy.get_dummies.exec_errors", names.getErrorsName());
+        assertSame(names.getTimeName(), new InstrumentNames("dummy.get_dummies", "exec").getTimeName());
+    }
+
+    @Test
+    public void testInstrumentAllocations() throws Exception {
+        AllocationMeter.assumeSupported();
+        var names = new InstrumentNames("dummy.get_dummies", "exec");
+
+        // Warm up both paths
+        measureDynamicNames("dummy", "get_dummies");
+        measurePrecomputedNames(names);
+
+        long dynamicBytes = measureDynamicNames("dummy", "get_dummies");
+        long precomputedBytes = measurePrecomputedNames(names);
+
+        // Precomputed names save at least the name string built per call
+        assertTrue(dynamicBytes - precomputedBytes >= names.getName().length());
+    }
+}
@@ -0,0 +1,99 @@
+package org.pipservices3.rpc.services;
+
+import org.junit.Test;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.refer.Descriptor;
+import org.pipservices3.commons.refer.References;
+import org.pipservices3.components.count.CompositeCounters;
+import org.pipservices3.components.log.CompositeLogger;
+import org.pipservices3.components.log.ConsoleLogger;
+import org.pipservices3.components.log.LogLevel;
+import org.pipservices3.components.log.Logger;
+import org.pipservices3.components.trace.CompositeTracer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class InstrumentPolicyTest {
+
+    @Test
+    public void testSampling() {
+        var policy = new InstrumentPolicy("exec");
+        assertEquals(1, policy.getTraceSampleRate(), 0);
+        assertTrue(policy.isSampled("123"));
+        assertTrue(policy.isSampled(null));
+
+        policy.configure(ConfigParams.fromTuples("options.trace_sample_rate", 0));
+        assertFalse(policy.isSampled("123"));
+        assertFalse(policy.isSampled(null));
+
+        policy.configure(ConfigParams.fromTuples("options.trace_sample_rate", 0.1));
+        var sampled = 0;
+        for (var index = 0; index < 10000; index++) {
+            var correlationId = "correlation_" + index;
+            // The decision is the same for the whole call chain
+            assertEquals(policy.isSampled(correlationId), policy.isSampled(correlationId));
+            if (policy.isSampled(correlationId))
+                sampled++;
+        }
+        assertTrue(sampled > 700 && sampled < 1300);
+    }
+
+    private static class CapturingLogger extends Logger {
+        final List<String> messages = new ArrayList<>();
+
+        @Override
+        protected void write(LogLevel level, String correlationId, Exception error, String message) {
+            if (level.ordinal() <= getLevel().ordinal())
+                messages.add(message);
+        }
+    }
+
+    @Test
+    public void testTraceLogLevel() throws Exception {
+        var policy = new InstrumentPolicy("call");
+        assertFalse(policy.isTraceLogEnabled(null));
+
+        var logger = new ConsoleLogger();
+        logger.setLevel(LogLevel.Info);
+        assertFalse(policy.isTraceLogEnabled(logger));
+
+        // Level changes are picked up on the next call
+        logger.setLevel(LogLevel.Trace);
+        assertTrue(policy.isTraceLogEnabled(logger));
+    }
+
+    @Test
+    public void testCompositeTraceLogLevel() throws Exception {
+        var child = new CapturingLogger();
+        child.setLevel(LogLevel.Trace);
+        var references = References.fromTuples(
+                new Descriptor("pip-services", "logger", "capturing", "default", "1.0"), child
+        );
+
+        var policy = new InstrumentPolicy("call");
+        policy.setReferences(references);
+
+        // The composite keeps its default level, the referenced logger decides
+        var composite = new CompositeLogger(references);
+        assertTrue(policy.isTraceLogEnabled(composite));
+
+        var timing = policy.begin("123", policy.getNames("dummy.get_dummies"),
+                composite, new CompositeCounters(), new CompositeTracer());
+        timing.endTiming();
+        assertEquals(List.of("Calling dummy.get_dummies method"), child.messages);
+
+        child.setLevel(LogLevel.Debug);
+        assertFalse(policy.isTraceLogEnabled(composite));
+    }
+
+    @Test
+    public void testNames() {
+        var policy = new InstrumentPolicy("call");
+        var names = policy.getNames("dummy.get_dummies");
+        assertEquals("dummy.get_dummies.call_count", names.getCountName());
+        assertSame(names, policy.getNames("dummy.get_dummies"));
+    }
+}
@@ -0,0 +1,39 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.core.StreamingOutput;
+import org.junit.Test;
+import org.pipservices3.rpc.Dummy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class JacksonHttpCodecTest {
+
+    @Test
+    public void testCachedWriters() {
+        var codec = new JacksonHttpCodec();
+        assertSame(codec.getWriter(Dummy.class), codec.getWriter(Dummy.class));
+    }
+
+    @Test
+    public void testStreamingEntity() throws Exception {
+        var codec = new JacksonHttpCodec();
+
+        assertEquals("abc", codec.toEntity("abc"));
+        assertNull(codec.toEntity(null));
+
+        var entity = codec.toEntity(new Dummy("1", "Key 1", "Content 1", new ArrayList<>()));
+        assertTrue(entity instanceof StreamingOutput);
+
+        var output = new ByteArrayOutputStream();
+        ((StreamingOutput) entity).write(output);
+
+        var value = codec.getMapper().readValue(output.toString(StandardCharsets.UTF_8), Map.class);
+        assertEquals("1", value.get("id"));
+        assertEquals("Key 1", value.get("key"));
+    }
+}
@@ -0,0 +1,78 @@
+package org.pipservices3.rpc.services;
+
+import org.junit.Test;
+import org.pipservices3.commons.run.Parameters;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that command parameters are parsed from the body stream without copying the body.
+ */
+public class ParametersParsingBenchmarkTest {
+    private static final int ITERATIONS = 20;
+
+    private static byte[] createPayload(int items) {
+        var builder = new StringBuilder("{\"items\":[");
+        for (var index = 0; index < items; index++) {
+            if (index > 0) builder.append(',');
+            builder.append("{\"id\":\"").append(index)
+                    .append("\",\"key\":\"Key ").append(index)
+                    .append("\",\"content\":\"Content of the dummy item number ").append(index).append("\"}");
+        }
+        builder.append("]}");
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Simulates chunked transfer where available() does not report the whole body.
+     */
+    private static InputStream chunked(byte[] payload) {
+        return new FilterInputStream(new ByteArrayInputStream(payload)) {
+            @Override
+            public int available() {
+                return 0;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 1024));
+            }
+        };
+    }
+
+    @Test
+    public void testChunkedBody() throws Exception {
+        var payload = createPayload(100);
+        var parameters = HttpCodecs.readParameters(null, chunked(payload));
+        assertEquals(100, parameters.getAsArray("items").size());
+
+        assertEquals(0, HttpCodecs.readParameters(null, chunked(new byte[0])).size());
+        assertEquals(0, HttpCodecs.readParameters(null, chunked(" \n".getBytes())).size());
+    }
+
+    @Test
+    public void testBodyIsNotBuffered() throws Exception {
+        AllocationMeter.assumeSupported();
+        var payload = createPayload(10000);
+
+        // Warm up both paths
+        for (var index = 0; index < 3; index++) {
+            Parameters.fromJson(new String(chunked(payload).readAllBytes(), StandardCharsets.UTF_8));
+            HttpCodecs.readParameters(null, chunked(payload));
+        }
+
+        long stringBytes = AllocationMeter.measure(ITERATIONS,
+                () -> Parameters.fromJson(new String(chunked(payload).readAllBytes(), StandardCharsets.UTF_8)));
+        long streamBytes = AllocationMeter.measure(ITERATIONS,
+                () -> HttpCodecs.readParameters(null, chunked(payload)));
+
+        // Both paths build the same parameters, the stream path saves at least the copies of the body
+        assertTrue(stringBytes - streamBytes >= payload.length);
+    }
+}
@@ -0,0 +1,99 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.process.Inflector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.refer.Descriptor;
+import org.pipservices3.commons.refer.References;
+import org.pipservices3.components.count.CachedCounters;
+import org.pipservices3.components.count.Counter;
+import org.pipservices3.components.log.LogLevel;
+import org.pipservices3.components.log.Logger;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+
+public class SlowRequestWatchdogTest {
+    static int port = 3021;
+
+    private HttpEndpoint _endpoint;
+    private final List<String> _warnings = new CopyOnWriteArrayList<>();
+    private final CachedCounters _counters = new CachedCounters() {
+        @Override
+        protected void save(List<Counter> counters) {
+        }
+    };
+
+    @Before
+    public void setUp() throws Exception {
+        var logger = new Logger() {
+            @Override
+            protected void write(LogLevel level, String correlationId, Exception error, String message) {
+                if (level == LogLevel.Warn)
+                    _warnings.add(message);
+            }
+        };
+
+        _endpoint = new HttpEndpoint();
+        _endpoint.configure(ConfigParams.fromTuples(
+                "connection.protocol", "http",
+                "connection.host", "localhost",
+                "connection.port", port,
+                "options.slow_request.threshold", 100,
+                "options.slow_request.samples", 2,
+                "options.slow_request.interval", 50
+        ));
+        _endpoint.setReferences(References.fromTuples(
+                new Descriptor("pip-services", "logger", "test", "default", "1.0"), logger,
+                new Descriptor("pip-services", "counters", "test", "default", "1.0"), _counters
+        ));
+        _endpoint.register(() -> _endpoint.registerRoute("get", "/slow/{id}",
+                new Inflector<ContainerRequestContext, Response>() {
+                    @Override
+                    public Response apply(ContainerRequestContext request) {
+                        try {
+                            Thread.sleep(500);
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return Response.ok("OK").build();
+                    }
+                }));
+        _endpoint.open(null);
+    }
+
+    @After
+    public void tearDown() {
+        _endpoint.close(null);
+    }
+
+    @Test
+    public void testReportSlowRequest() {
+        var client = ClientBuilder.newClient();
+        try (var response = client.target("http://localhost:" + port + "/slow/123").request().get()) {
+            assertEquals(200, response.getStatus());
+        } finally {
+            client.close();
+        }
+
+        var slowRequests = _counters.getAll().stream()
+                .filter(counter -> counter.getName().equals("http.slow_requests"))
+                .findFirst().orElse(null);
+        assertNotNull(slowRequests);
+        assertEquals(1, (int) slowRequests.getCount());
+
+        // The report is logged once with the route template and two stack samples
+        var reports = _warnings.stream().filter(message -> message.startsWith("Slow request")).toArray(String[]::new);
+        assertEquals(1, reports.length);
+        assertTrue(reports[0].startsWith("Slow request GET /slow/{id}"));
+        assertTrue(reports[0].contains("Stack sample 2"));
+        assertFalse(reports[0].contains("Stack sample 3"));
+    }
+}
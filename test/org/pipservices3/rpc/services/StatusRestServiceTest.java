@@ -3,12 +3,16 @@ package org.pipservices3.rpc.services;
 import jakarta.ws.rs.client.*;
 import jakarta.ws.rs.core.*;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.Assert.*;
 
 import org.glassfish.jersey.client.*;
 import org.glassfish.jersey.jackson.*;
 import org.junit.*;
 import org.pipservices3.commons.config.*;
+import org.pipservices3.commons.data.*;
 import org.pipservices3.commons.errors.*;
 import org.pipservices3.commons.refer.*;
 import org.pipservices3.components.info.*;
@@ -31,9 +35,10 @@ public class StatusRestServiceTest {
         ContextInfo contextInfo = new ContextInfo();
         contextInfo.setName("Test");
         contextInfo.setDescription("This is a test container");
+        contextInfo.setProperties(StringValueMap.fromTuples("region", "test"));
 
         References references = References.fromTuples(
-                new Descriptor("pip-services3", "context-info", "default", "default", "1.0"), contextInfo,
+                new Descriptor("pip-services", "context-info", "default", "default", "1.0"), contextInfo,
                 new Descriptor("pip-services3", "status-service", "http", "default", "1.0"), _service
         );
         _service.setReferences(references);
@@ -52,6 +57,21 @@ public class StatusRestServiceTest {
         assertNotNull(value);
     }
 
+    @Test
+    public void testStatusContent() throws Exception {
+        Map<?, ?> status = invoke(Map.class, "/status");
+        assertEquals("Test", status.get("name"));
+        assertEquals("This is a test container", status.get("description"));
+        assertEquals("test", ((Map<?, ?>) status.get("properties")).get("region"));
+        assertNotNull(status.get("start_time"));
+        assertNotNull(status.get("current_time"));
+        assertTrue(((Number) status.get("uptime")).longValue() >= 0);
+        assertEquals(2, ((List<?>) status.get("components")).size());
+
+        Map<?, ?> status2 = invoke(Map.class, "/status");
+        assertEquals(status.get("components"), status2.get("components"));
+    }
+
 
     private static <T> T invoke(Class<T> responseClass, String route) throws Exception {
         ClientConfig clientConfig = new ClientConfig();
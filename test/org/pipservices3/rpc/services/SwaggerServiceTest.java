@@ -0,0 +1,89 @@
+package org.pipservices3.rpc.services;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.HttpHeaders;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pipservices3.commons.config.ConfigParams;
+import org.pipservices3.commons.errors.ApplicationException;
+
+import static org.junit.Assert.*;
+
+public class SwaggerServiceTest {
+    private static final String SPEC1 = "openapi: '3.0.2'\n" +
+            "info:\n" +
+            "  title: 'Service 1'\n" +
+            "paths:\n" +
+            "  /service1/get_data:\n" +
+            "    post:\n" +
+            "      operationId: get_data\n";
+    private static final String SPEC2 = "openapi: '3.0.2'\n" +
+            "info:\n" +
+            "  title: 'Service 2'\n" +
+            "paths:\n" +
+            "  /service2/set_data:\n" +
+            "    post:\n" +
+            "      operationId: set_data\n" +
+            "  /service1/get_data:\n" +
+            "    post:\n" +
+            "      operationId: duplicate\n";
+
+    private SwaggerService _service;
+    private Client _client;
+
+    @Before
+    public void setUp() throws ApplicationException {
+        _service = new SwaggerService();
+        _service.configure(ConfigParams.fromTuples(
+                "connection.protocol", "http",
+                "connection.host", "localhost",
+                "connection.port", 3016,
+                "name", "Dummy microservice"
+        ));
+
+        _service.registerOpenApiSpec("service1", "swagger", () -> SPEC1);
+        _service.registerOpenApiSpec("service2", "swagger", () -> SPEC2);
+        _service.open(null);
+
+        _client = ClientBuilder.newClient();
+    }
+
+    @After
+    public void tearDown() throws ApplicationException {
+        _client.close();
+        _service.close(null);
+    }
+
+    @Test
+    public void testMergedSpec() {
+        var response = _client.target("http://localhost:3016/swagger").request().get();
+        assertEquals(200, response.getStatus());
+        var content = response.readEntity(String.class);
+
+        assertTrue(content.startsWith("openapi: '3.0.2'\n"));
+        assertTrue(content.contains("title: 'Dummy microservice'"));
+        assertFalse(content.contains("Service 1"));
+        assertEquals(content.indexOf("paths:"), content.lastIndexOf("paths:"));
+        assertTrue(content.contains("  /service1/get_data:\n    post:\n      operationId: get_data\n"));
+        assertTrue(content.contains("  /service2/set_data:\n"));
+        assertFalse(content.contains("duplicate"));
+
+        // Revalidate the cached document
+        var etag = response.getHeaderString(HttpHeaders.ETAG);
+        response = _client.target("http://localhost:3016/swagger").request()
+                .header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(304, response.getStatus());
+        response.close();
+
+        // A new registration rebuilds the document
+        _service.registerOpenApiSpec("service3", "swagger",
+                () -> "paths:\n  /service3/ping:\n    post:\n      operationId: ping\n");
+        response = _client.target("http://localhost:3016/swagger").request()
+                .header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(200, response.getStatus());
+        assertNotEquals(etag, response.getHeaderString(HttpHeaders.ETAG));
+        assertTrue(response.readEntity(String.class).contains("/service3/ping:"));
+    }
+}